@@ -0,0 +1,75 @@
+package com.sayup.SayUp.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import javax.crypto.SecretKey;
+import java.security.Key;
+import java.security.KeyPair;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 토큰 검증 비용 비교 (HS256 / ES256, 파서 재사용 / 매 호출 생성)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtVerificationBenchmark {
+
+    private SecretKey hmacKey;
+    private JwtParser hs256Parser;
+    private JwtParser es256Parser;
+    private String hs256Token;
+    private String es256Token;
+
+    @Setup
+    public void setUp() {
+        hmacKey = Keys.secretKeyFor(SignatureAlgorithm.HS256);
+        KeyPair ecKeyPair = Keys.keyPairFor(SignatureAlgorithm.ES256);
+
+        hs256Token = createToken("hs", hmacKey, SignatureAlgorithm.HS256);
+        es256Token = createToken("es", ecKeyPair.getPrivate(), SignatureAlgorithm.ES256);
+
+        hs256Parser = Jwts.parserBuilder().setSigningKey(hmacKey).build();
+        es256Parser = Jwts.parserBuilder().setSigningKey(ecKeyPair.getPublic()).build();
+    }
+
+    @Benchmark
+    public Claims hs256Verify() {
+        return hs256Parser.parseClaimsJws(hs256Token).getBody();
+    }
+
+    @Benchmark
+    public Claims hs256VerifyWithNewParser() {
+        return Jwts.parserBuilder().setSigningKey(hmacKey).build().parseClaimsJws(hs256Token).getBody();
+    }
+
+    @Benchmark
+    public Claims es256Verify() {
+        return es256Parser.parseClaimsJws(es256Token).getBody();
+    }
+
+    private static String createToken(String kid, Key key, SignatureAlgorithm algorithm) {
+        Date now = new Date();
+        return Jwts.builder()
+                .setHeaderParam("kid", kid)
+                .setSubject("benchmark@example.com")
+                .claim("type", "access")
+                .claim("roles", "ROLE_USER")
+                .setIssuedAt(now)
+                .setExpiration(new Date(now.getTime() + TimeUnit.HOURS.toMillis(1)))
+                .signWith(key, algorithm)
+                .compact();
+    }
+}
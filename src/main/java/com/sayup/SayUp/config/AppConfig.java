@@ -1,5 +1,6 @@
 package com.sayup.SayUp.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -11,12 +12,16 @@ import org.springframework.web.client.RestTemplate;
 @Configuration
 public class AppConfig {
 
+    @Value("${security.password.bcrypt-strength:10}")
+    private int bcryptStrength;
+
     /**
      * 비밀번호 암호화
+     * strength를 올리면 기존 해시는 다음 로그인 시 새 strength로 다시 해시된다.
      */
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        return new BCryptPasswordEncoder(bcryptStrength);
     }
 
     /**
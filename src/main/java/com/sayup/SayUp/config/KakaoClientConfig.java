@@ -0,0 +1,64 @@
+package com.sayup.SayUp.config;
+
+import io.netty.channel.ChannelOption;
+import io.netty.handler.timeout.ReadTimeoutHandler;
+import io.netty.handler.timeout.WriteTimeoutHandler;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 카카오 API 호출용 WebClient 설정
+ * 공유 커넥션 풀에서 연결을 재사용하며, 풀 메트릭(reactor.netty.connection.provider.*)을 수집한다.
+ */
+@Configuration
+public class KakaoClientConfig {
+
+    @Value("${kakao.client.max-connections:50}")
+    private int maxConnections;
+
+    @Value("${kakao.client.pending-acquire-timeout:2000}")
+    private long pendingAcquireTimeout;
+
+    @Value("${kakao.client.max-idle-time:30000}")
+    private long maxIdleTime;
+
+    @Value("${kakao.client.connect-timeout:2000}")
+    private int connectTimeout;
+
+    @Value("${kakao.client.read-timeout:5000}")
+    private long readTimeout;
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider kakaoConnectionProvider() {
+        return ConnectionProvider.builder("kakao")
+                .maxConnections(maxConnections)
+                .pendingAcquireTimeout(Duration.ofMillis(pendingAcquireTimeout))  // 풀 대기 제한
+                .maxIdleTime(Duration.ofMillis(maxIdleTime))                      // 서버측 종료 전에 유휴 연결 정리
+                .evictInBackground(Duration.ofSeconds(30))
+                .metrics(true)
+                .build();
+    }
+
+    @Bean
+    public WebClient kakaoWebClient(ConnectionProvider kakaoConnectionProvider) {
+        HttpClient httpClient = HttpClient.create(kakaoConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeout)
+                .responseTimeout(Duration.ofMillis(readTimeout))
+                .doOnConnected(connection -> connection
+                        .addHandlerLast(new ReadTimeoutHandler(readTimeout, TimeUnit.MILLISECONDS))
+                        .addHandlerLast(new WriteTimeoutHandler(readTimeout, TimeUnit.MILLISECONDS)));
+
+        return WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(1024 * 1024)) // 1MB
+                .build();
+    }
+}
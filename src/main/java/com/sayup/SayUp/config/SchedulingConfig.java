@@ -0,0 +1,12 @@
+package com.sayup.SayUp.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 주기 작업(@Scheduled 어노테이션이 붙은 메서드) 실행을 위한 설정 클래스
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -2,6 +2,7 @@ package com.sayup.SayUp.config;
 
 import com.sayup.SayUp.security.JwtAuthenticationFilter;
 import com.sayup.SayUp.security.JwtTokenProvider;
+import com.sayup.SayUp.security.PrincipalCache;
 import com.sayup.SayUp.service.auth.AuthService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
@@ -28,6 +29,10 @@ public class SecurityConfig {
     private final AuthService authService;  // 사용자 인증 서비스 (사용자 정보를 로드하고 인증 처리)
     private final PasswordEncoder passwordEncoder;  // 비밀번호 암호화 인코더
     private final JwtTokenProvider jwtTokenProvider;  // JWT 토큰 제공자
+    private final PrincipalCache principalCache;  // 인증 사용자 캐시
+
+    @Value("${jwt.stateless-principal:false}")
+    private boolean statelessPrincipal;
 
     @Value("${spring.profiles.active:prod}")
     private String activeProfile;
@@ -40,7 +45,7 @@ public class SecurityConfig {
      */
     @Bean
     public JwtAuthenticationFilter jwtAuthenticationFilter() {
-        return new JwtAuthenticationFilter(jwtTokenProvider, authService);
+        return new JwtAuthenticationFilter(jwtTokenProvider, authService, principalCache, statelessPrincipal);
     }
 
     /**
@@ -55,7 +60,8 @@ public class SecurityConfig {
                 "/swagger-ui/**",     // Swagger UI
                 "/v3/api-docs/**",    // OpenAPI 문서
                 "/callback/**",       // 카카오 로그인
-                "/actuator/health"    // 헬스체크
+                "/actuator/health",   // 헬스체크
+                "/ws/**"              // WebSocket 핸드셰이크 (STOMP CONNECT 프레임에서 JWT 인증)
         };
 
         return http
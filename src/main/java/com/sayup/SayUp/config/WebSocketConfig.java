@@ -0,0 +1,48 @@
+package com.sayup.SayUp.config;
+
+import com.sayup.SayUp.security.ChatRoomSubscriptionInterceptor;
+import com.sayup.SayUp.security.StompAuthChannelInterceptor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.config.ChannelRegistration;
+import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
+import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
+import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+
+/**
+ * WebSocket(STOMP) 설정
+ * 클라이언트는 /ws로 연결한 뒤 CONNECT 프레임에 Authorization 헤더를 담아 인증하고,
+ * 사용자별 이벤트는 /user/queue/... 를, 채팅 메시지는 /topic/chat-rooms/{roomId}를 구독해 받는다.
+ */
+@Configuration
+@EnableWebSocketMessageBroker
+@RequiredArgsConstructor
+public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
+
+    private final StompAuthChannelInterceptor stompAuthChannelInterceptor;
+    private final ChatRoomSubscriptionInterceptor chatRoomSubscriptionInterceptor;
+
+    @Value("${websocket.allowed-origin-patterns:*}")
+    private String[] allowedOriginPatterns;
+
+    @Override
+    public void registerStompEndpoints(StompEndpointRegistry registry) {
+        registry.addEndpoint("/ws")
+                .setAllowedOriginPatterns(allowedOriginPatterns);
+    }
+
+    @Override
+    public void configureMessageBroker(MessageBrokerRegistry registry) {
+        registry.enableSimpleBroker("/queue", "/topic");
+        registry.setApplicationDestinationPrefixes("/app");
+        registry.setUserDestinationPrefix("/user");
+    }
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        // 인증 후 채팅방 구독 권한 확인
+        registration.interceptors(stompAuthChannelInterceptor, chatRoomSubscriptionInterceptor);
+    }
+}
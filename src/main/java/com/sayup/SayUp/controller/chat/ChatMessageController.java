@@ -0,0 +1,40 @@
+package com.sayup.SayUp.controller.chat;
+
+import com.sayup.SayUp.dto.chat.ChatSendRequestDTO;
+import com.sayup.SayUp.security.ChatRoomSubscriptionInterceptor;
+import com.sayup.SayUp.security.StompPrincipal;
+import com.sayup.SayUp.service.chat.ChatMessageSink;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.handler.annotation.DestinationVariable;
+import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.stereotype.Controller;
+
+/**
+ * 채팅 메시지 전송 (/app/chat-rooms/{roomId}/send)
+ * 결과는 /user/queue/chat-acks, 메시지는 /topic/chat-rooms/{roomId}로 전달된다.
+ */
+@Controller
+@RequiredArgsConstructor
+public class ChatMessageController {
+
+    private final ChatMessageSink chatMessageSink;
+
+    @MessageMapping("/chat-rooms/{roomId}/send")
+    public void send(@DestinationVariable Long roomId, @Payload @Valid ChatSendRequestDTO request,
+                     StompPrincipal principal, SimpMessageHeaderAccessor accessor) {
+        // 참여자 확인은 구독 시 한 번만 수행 (DB 조회 없음)
+        if (!ChatRoomSubscriptionInterceptor.joinedRooms(accessor.getSessionAttributes()).contains(roomId)) {
+            chatMessageSink.reject(principal.getUserId(), roomId, request.getClientMessageId(),
+                    "채팅방을 먼저 구독해야 합니다.");
+            return;
+        }
+
+        if (!chatMessageSink.submit(roomId, principal.getUserId(), request.getClientMessageId(), request.getContent())) {
+            chatMessageSink.reject(principal.getUserId(), roomId, request.getClientMessageId(),
+                    "잠시 후 다시 시도해주세요.");
+        }
+    }
+}
@@ -1,8 +1,15 @@
 package com.sayup.SayUp.controller.chat;
 
-import com.sayup.SayUp.entity.chat.ChatRoom;
+import com.sayup.SayUp.dto.CursorPage;
+import com.sayup.SayUp.dto.chat.ChatMessageDTO;
+import com.sayup.SayUp.dto.chat.ChatRoomDTO;
+import com.sayup.SayUp.security.CustomUserDetails;
+import com.sayup.SayUp.service.chat.ChatHistoryService;
 import com.sayup.SayUp.service.chat.ChatRoomService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 @RestController
@@ -11,12 +18,28 @@ import org.springframework.web.bind.annotation.*;
 public class ChatRoomController {
 
     private final ChatRoomService chatRoomService;
+    private final ChatHistoryService chatHistoryService;
 
     @PostMapping("/enter")
-    public ChatRoom enterRoom(
-            @RequestParam("currentUserId") Long currentUserId,
-            @RequestParam("friendUserId") Long friendUserId
-    ) throws Exception {
-        return chatRoomService.createOrEnterRoom(currentUserId, friendUserId);
+    public ResponseEntity<ChatRoomDTO> enterRoom(@AuthenticationPrincipal CustomUserDetails userDetails,
+                                                 @RequestParam("friendUserId") Long friendUserId) {
+        if (userDetails == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+
+        // 요청자는 인증 정보로만 결정 (파라미터로 받으면 친구 확인을 우회할 수 있음)
+        return ResponseEntity.ok(chatRoomService.createOrEnterRoom(userDetails.getUserId(), friendUserId));
+    }
+
+    @GetMapping("/{roomId}/messages")
+    public ResponseEntity<CursorPage<ChatMessageDTO>> getMessages(@AuthenticationPrincipal CustomUserDetails userDetails,
+                                                                  @PathVariable Long roomId,
+                                                                  @RequestParam(required = false) String cursor,
+                                                                  @RequestParam(defaultValue = "30") int size) {
+        if (userDetails == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+
+        return ResponseEntity.ok(chatHistoryService.getMessages(roomId, userDetails.getUserId(), cursor, size));
     }
 }
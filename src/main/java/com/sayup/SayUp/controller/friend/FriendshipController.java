@@ -1,9 +1,16 @@
 package com.sayup.SayUp.controller.friend;
 
+import com.sayup.SayUp.dto.CursorPage;
+import com.sayup.SayUp.dto.friend.FriendBatchRequestDTO;
+import com.sayup.SayUp.dto.friend.FriendBatchResultDTO;
+import com.sayup.SayUp.dto.friend.FriendDTO;
+import com.sayup.SayUp.dto.friend.FriendPresenceDTO;
+import com.sayup.SayUp.dto.friend.FriendSuggestionDTO;
 import com.sayup.SayUp.dto.friend.PendingRequestDTO;
-import com.sayup.SayUp.entity.user.User;
+import com.sayup.SayUp.entity.friend.FriendRelationship;
 import com.sayup.SayUp.security.CustomUserDetails;
 import com.sayup.SayUp.service.friend.FriendshipService;
+import jakarta.validation.Valid;
 import lombok.AllArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -12,6 +19,7 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/friends")
@@ -36,25 +44,81 @@ public class FriendshipController {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("User not authenticated");
         }
 
-        friendshipService.acceptFriendRequest((CustomUserDetails) userDetails, relationshipId);
-        return ResponseEntity.ok().build();
+        FriendRelationship.FriendshipStatus status =
+                friendshipService.acceptFriendRequest((CustomUserDetails) userDetails, relationshipId);
+        return ResponseEntity.ok(Map.of("status", status));
+    }
+
+    @PostMapping("/reject/{relationshipId}")
+    public ResponseEntity<?> rejectFriendRequest(@AuthenticationPrincipal UserDetails userDetails, @PathVariable Long relationshipId) {
+        if (userDetails == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("User not authenticated");
+        }
+
+        FriendRelationship.FriendshipStatus status =
+                friendshipService.rejectFriendRequest((CustomUserDetails) userDetails, relationshipId);
+        return ResponseEntity.ok(Map.of("status", status));
+    }
+
+    @PostMapping("/batch")
+    public ResponseEntity<List<FriendBatchResultDTO>> processBatch(@AuthenticationPrincipal UserDetails userDetails,
+                                                                   @RequestBody @Valid FriendBatchRequestDTO request) {
+        if (userDetails == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+
+        return ResponseEntity.ok(friendshipService.processBatch((CustomUserDetails) userDetails, request.getItems()));
     }
 
     @GetMapping("/list")
-    public ResponseEntity<List<User>> getFriendsList(@AuthenticationPrincipal UserDetails userDetails) {
+    public ResponseEntity<CursorPage<FriendDTO>> getFriendsList(@AuthenticationPrincipal UserDetails userDetails,
+                                                                @RequestParam(required = false) String cursor,
+                                                                @RequestParam(defaultValue = "20") int size) {
+        if (userDetails == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+
+        return ResponseEntity.ok(friendshipService.getFriendsList((CustomUserDetails) userDetails, cursor, size));
+    }
+
+    @GetMapping("/suggestions")
+    public ResponseEntity<List<FriendSuggestionDTO>> getFriendSuggestions(@AuthenticationPrincipal UserDetails userDetails,
+                                                                          @RequestParam(defaultValue = "10") int limit) {
+        if (userDetails == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+
+        return ResponseEntity.ok(friendshipService.getFriendSuggestions((CustomUserDetails) userDetails, limit));
+    }
+
+    @GetMapping("/mutual/{userId}")
+    public ResponseEntity<Map<String, Integer>> getMutualFriendCount(@AuthenticationPrincipal UserDetails userDetails,
+                                                                     @PathVariable Long userId) {
+        if (userDetails == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+
+        int count = friendshipService.getMutualFriendCount((CustomUserDetails) userDetails, userId);
+        return ResponseEntity.ok(Map.of("mutualFriendCount", count));
+    }
+
+    @GetMapping("/presence")
+    public ResponseEntity<List<FriendPresenceDTO>> getFriendsPresence(@AuthenticationPrincipal UserDetails userDetails) {
         if (userDetails == null) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
         }
 
-        return ResponseEntity.ok(friendshipService.getFriendsList((CustomUserDetails) userDetails));
+        return ResponseEntity.ok(friendshipService.getFriendsPresence((CustomUserDetails) userDetails));
     }
 
     @GetMapping("/pending")
-    public ResponseEntity<List<PendingRequestDTO>> getPendingRequests(@AuthenticationPrincipal CustomUserDetails userDetails) {
+    public ResponseEntity<CursorPage<PendingRequestDTO>> getPendingRequests(@AuthenticationPrincipal CustomUserDetails userDetails,
+                                                                            @RequestParam(required = false) String cursor,
+                                                                            @RequestParam(defaultValue = "20") int size) {
         if (userDetails == null) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
         }
 
-        return ResponseEntity.ok(friendshipService.getPendingRequests(userDetails));
+        return ResponseEntity.ok(friendshipService.getPendingRequests(userDetails, cursor, size));
     }
 }
@@ -0,0 +1,22 @@
+package com.sayup.SayUp.controller.friend;
+
+import com.sayup.SayUp.security.StompPrincipal;
+import com.sayup.SayUp.service.presence.PresenceService;
+import lombok.AllArgsConstructor;
+import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.stereotype.Controller;
+
+/**
+ * WebSocket 하트비트 수신 (/app/presence/heartbeat)
+ */
+@Controller
+@AllArgsConstructor
+public class PresenceController {
+
+    private final PresenceService presenceService;
+
+    @MessageMapping("/presence/heartbeat")
+    public void heartbeat(StompPrincipal principal) {
+        presenceService.heartbeat(principal.getUserId());
+    }
+}
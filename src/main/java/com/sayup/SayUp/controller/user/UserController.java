@@ -1,12 +1,20 @@
 package com.sayup.SayUp.controller.user;
 
 import com.sayup.SayUp.dto.friend.SearchDTO;
+import com.sayup.SayUp.dto.friend.UserSearchResultDTO;
+import com.sayup.SayUp.dto.user.UserProfileDTO;
+import com.sayup.SayUp.security.CustomUserDetails;
 import com.sayup.SayUp.service.user.UserService;
 import lombok.AllArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/users")
 @AllArgsConstructor
@@ -25,4 +33,25 @@ public class UserController {
             return ResponseEntity.notFound().build();
         }
     }
-}
\ No newline at end of file
+
+    @GetMapping("/autocomplete")
+    public ResponseEntity<List<UserSearchResultDTO>> autocomplete(@AuthenticationPrincipal UserDetails userDetails,
+                                                                  @RequestParam String q,
+                                                                  @RequestParam(defaultValue = "10") int limit) {
+        if (userDetails == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+
+        return ResponseEntity.ok(userService.autocomplete((CustomUserDetails) userDetails, q, limit));
+    }
+
+    @GetMapping("/profiles")
+    public ResponseEntity<List<UserProfileDTO>> getProfiles(@AuthenticationPrincipal UserDetails userDetails,
+                                                            @RequestParam List<Long> ids) {
+        if (userDetails == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+
+        return ResponseEntity.ok(userService.getProfiles(ids));
+    }
+}
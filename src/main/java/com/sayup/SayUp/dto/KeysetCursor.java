@@ -0,0 +1,52 @@
+package com.sayup.SayUp.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+
+/**
+ * (정렬 시각, ID) 키셋 커서
+ * 최신순 정렬에서 마지막으로 받은 행의 위치를 나타내며, 클라이언트에는 불투명한 Base64 문자열로 전달한다.
+ * DB의 마이크로초 정밀도를 그대로 유지해야 같은 시각의 행이 누락되지 않으므로 나노초까지 인코딩한다.
+ */
+@Getter
+@AllArgsConstructor
+public class KeysetCursor {
+
+    // 첫 페이지: 모든 행보다 뒤에 있는 위치
+    public static final KeysetCursor FIRST = new KeysetCursor(LocalDateTime.of(9999, 12, 31, 0, 0), Long.MAX_VALUE);
+
+    private final LocalDateTime time;
+    private final Long id;
+
+    public String encode() {
+        Instant instant = time.toInstant(ZoneOffset.UTC);
+        String raw = instant.getEpochSecond() + ":" + instant.getNano() + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 문자열 해석 (비어 있으면 첫 페이지)
+     */
+    public static KeysetCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return FIRST;
+        }
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(":");
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+            Instant instant = Instant.ofEpochSecond(Long.parseLong(parts[0]), Long.parseLong(parts[1]));
+            return new KeysetCursor(LocalDateTime.ofInstant(instant, ZoneOffset.UTC), Long.valueOf(parts[2]));
+        } catch (IllegalArgumentException | DateTimeException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+}
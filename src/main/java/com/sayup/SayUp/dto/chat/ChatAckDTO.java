@@ -0,0 +1,24 @@
+package com.sayup.SayUp.dto.chat;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+// 전송한 메시지의 처리 결과 (성공 시 seq, 실패 시 message에 사유)
+
+@Data
+@AllArgsConstructor
+public class ChatAckDTO {
+    private Long roomId;
+    private String clientMessageId;
+    private Long seq;
+    private boolean success;
+    private String message;
+
+    public static ChatAckDTO success(Long roomId, String clientMessageId, Long seq) {
+        return new ChatAckDTO(roomId, clientMessageId, seq, true, null);
+    }
+
+    public static ChatAckDTO failure(Long roomId, String clientMessageId, String message) {
+        return new ChatAckDTO(roomId, clientMessageId, null, false, message);
+    }
+}
@@ -0,0 +1,20 @@
+package com.sayup.SayUp.dto.chat;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 채팅방 구독자에게 전달되는 메시지 (seq: 채팅방 내 서버 부여 순번)
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ChatMessageDTO {
+    private Long roomId;
+    private Long seq;
+    private Long senderId;
+    private String content;
+    private LocalDateTime sentAt;
+}
@@ -0,0 +1,16 @@
+package com.sayup.SayUp.dto.chat;
+
+import com.sayup.SayUp.dto.user.UserProfileDTO;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+// 채팅방 입장 응답 (참여자는 화면 표시용 프로필만 포함)
+
+@Data
+@AllArgsConstructor
+public class ChatRoomDTO {
+    private Long roomId;
+    private List<UserProfileDTO> participants;
+}
@@ -0,0 +1,21 @@
+package com.sayup.SayUp.dto.chat;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// 채팅 메시지 전송 요청 (clientMessageId: 클라이언트가 응답을 대응시키기 위한 임의 ID)
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ChatSendRequestDTO {
+    @Size(max = 64, message = "clientMessageId는 64자 이하여야 합니다")
+    private String clientMessageId;
+
+    @NotBlank(message = "메시지 내용을 입력해주세요")
+    @Size(max = 2000, message = "메시지는 2000자 이하여야 합니다")
+    private String content;
+}
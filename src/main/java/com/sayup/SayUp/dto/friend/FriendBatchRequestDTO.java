@@ -0,0 +1,39 @@
+package com.sayup.SayUp.dto.friend;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// 친구 요청/수락/거절 일괄 처리 요청 (대상은 모두 상대방 userId)
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class FriendBatchRequestDTO {
+
+    public enum Action {
+        REQUEST,
+        ACCEPT,
+        REJECT
+    }
+
+    @NotEmpty(message = "처리할 항목을 입력해주세요")
+    @Valid
+    private List<Item> items;
+
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Item {
+        @NotNull(message = "처리 유형을 입력해주세요")
+        private Action action;
+
+        @NotNull(message = "대상 사용자 ID를 입력해주세요")
+        private Long userId;
+    }
+}
@@ -0,0 +1,23 @@
+package com.sayup.SayUp.dto.friend;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+// 일괄 처리 항목별 결과 (실패 시 message에 사유)
+
+@Data
+@AllArgsConstructor
+public class FriendBatchResultDTO {
+    private Long userId;
+    private FriendBatchRequestDTO.Action action;
+    private boolean success;
+    private String message;
+
+    public static FriendBatchResultDTO success(FriendBatchRequestDTO.Item item) {
+        return new FriendBatchResultDTO(item.getUserId(), item.getAction(), true, null);
+    }
+
+    public static FriendBatchResultDTO failure(FriendBatchRequestDTO.Item item, String message) {
+        return new FriendBatchResultDTO(item.getUserId(), item.getAction(), false, message);
+    }
+}
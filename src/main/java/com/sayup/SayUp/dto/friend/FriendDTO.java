@@ -0,0 +1,18 @@
+package com.sayup.SayUp.dto.friend;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+// 친구 목록 응답 (User 엔티티 대신 필요한 필드만 노출)
+
+@Data
+@AllArgsConstructor
+public class FriendDTO {
+    private Long userId;
+    private String username;
+    private String email;
+    private Long relationshipId;
+    private LocalDateTime friendsSince;
+}
@@ -0,0 +1,23 @@
+package com.sayup.SayUp.dto.friend;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+// WebSocket 친구 이벤트 (/user/queue/friends, 짧은 간격으로 묶어서 목록으로 전송)
+
+@Data
+@AllArgsConstructor
+public class FriendEventDTO {
+
+    public enum Type {
+        FRIEND_REQUEST_SENT,      // 새 친구 요청을 받음
+        FRIEND_REQUEST_ACCEPTED,  // 보낸 친구 요청이 수락됨
+        FRIEND_REMOVED,           // 상대방이 친구를 삭제함
+        RESYNC                    // 이벤트가 너무 많아 생략됨 - 목록을 다시 조회
+    }
+
+    private Type type;
+
+    // 상대방 userId (RESYNC는 null)
+    private Long userId;
+}
@@ -0,0 +1,16 @@
+package com.sayup.SayUp.dto.friend;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+// 친구 접속 상태 (lastSeenAt: 알 수 없으면 null)
+
+@Data
+@AllArgsConstructor
+public class FriendPresenceDTO {
+    private Long userId;
+    private boolean online;
+    private LocalDateTime lastSeenAt;
+}
@@ -0,0 +1,14 @@
+package com.sayup.SayUp.dto.friend;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+// 알 수도 있는 친구 (함께 아는 친구 수 포함)
+
+@Data
+@AllArgsConstructor
+public class FriendSuggestionDTO {
+    private Long userId;
+    private String username;
+    private int mutualFriendCount;
+}
@@ -0,0 +1,14 @@
+package com.sayup.SayUp.dto.friend;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+// 사용자 자동완성 결과 (friend: 이미 친구인 사용자)
+
+@Data
+@AllArgsConstructor
+public class UserSearchResultDTO {
+    private Long userId;
+    private String username;
+    private boolean friend;
+}
@@ -0,0 +1,14 @@
+package com.sayup.SayUp.dto.user;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+// 화면 표시용 사용자 프로필 (TTS 벡터 등 무거운 컬럼 제외)
+
+@Data
+@AllArgsConstructor
+public class UserProfileDTO {
+    private Long userId;
+    private String username;
+    private Boolean active;
+}
@@ -31,7 +31,7 @@ public class ChatRoom {
     private List<User> participants = new ArrayList<>();
 
     @Lob
-    private String metadata; // TTS 벡터 등 JSON 문자열로 저장
+    private String metadata; // 채팅방 설정 JSON 문자열 (개인 데이터는 저장하지 않음)
 
     @Builder.Default
     private LocalDateTime createdAt = LocalDateTime.now();
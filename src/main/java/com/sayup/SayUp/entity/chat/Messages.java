@@ -7,7 +7,8 @@ import lombok.Setter;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "Messages")
+@Table(name = "Messages",
+        uniqueConstraints = @UniqueConstraint(name = "uk_messages_room_seq", columnNames = {"room_id", "seq"}))
 @Getter
 @Setter
 public class Messages {
@@ -15,10 +16,21 @@ public class Messages {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long messageId;
 
+    // AI 대화 메시지 (채팅방 메시지는 null)
     @ManyToOne
-    @JoinColumn(name = "chatId", nullable = false, unique = true)
+    @JoinColumn(name = "chatId", unique = true)
     private Chat chat;
 
+    // 1:1 채팅방 메시지 - 채팅방 ID, 보낸 사용자, 채팅방 내 순번
+    @Column(name = "room_id")
+    private Long roomId;
+
+    @Column(name = "sender_id")
+    private Long senderId;
+
+    @Column(name = "seq")
+    private Long seq;
+
     @Enumerated(EnumType.STRING)
     private Sender sender;
 
@@ -6,15 +6,30 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "FriendRelationship")
+@Table(name = "FriendRelationship",
+        uniqueConstraints = @UniqueConstraint(name = "uk_friend_relationship_pair", columnNames = {"user_low_id", "user_high_id"}),
+        indexes = {
+                // 친구 목록 키셋 페이지: 쌍의 각 방향마다 (사용자, 상태, 수락 시각, ID) 순서로 탐색
+                @Index(name = "idx_friend_relationship_low_accepted", columnList = "user_low_id, status, accepted_at, id"),
+                @Index(name = "idx_friend_relationship_high_accepted", columnList = "user_high_id, status, accepted_at, id"),
+                // 받은 친구 요청 키셋 페이지
+                @Index(name = "idx_friend_relationship_addressee_requested", columnList = "addressee_id, status, requested_at, id"),
+                // 친구 그래프 스냅샷 이후 수락된 관계 조회
+                @Index(name = "idx_friend_relationship_status_accepted", columnList = "status, accepted_at")
+        })
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class FriendRelationship {
+    // IDENTITY는 INSERT마다 키를 받아와야 해서 JDBC 배치가 불가능하므로 50개 단위로 미리 할당
+    // MySQL에서는 한 행짜리 friend_relationship_seq 테이블로 흉내 내므로, 기존 데이터가 있으면 배포 전에 행을 추가하지 말고 갱신:
+    //   UPDATE friend_relationship_seq SET next_val = (SELECT COALESCE(MAX(id), 0) + 1 FROM friend_relationship);
+    // (prod처럼 ddl-auto가 validate이면 먼저 테이블을 만들고 next_val 한 행을 위 값으로 넣어 둠)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "friend_relationship_seq")
+    @SequenceGenerator(name = "friend_relationship_seq", sequenceName = "friend_relationship_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -25,6 +40,13 @@ public class FriendRelationship {
     @JoinColumn(name = "addressee_id", nullable = false)
     private User addressee;
 
+    // 방향과 무관한 사용자 쌍 (작은 ID, 큰 ID) - 두 사용자 간 관계는 한 행만 존재
+    @Column(name = "user_low_id", nullable = false, updatable = false)
+    private Long userLowId;
+
+    @Column(name = "user_high_id", nullable = false, updatable = false)
+    private Long userHighId;
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     private FriendshipStatus status;
@@ -38,6 +60,11 @@ public class FriendRelationship {
     @Column
     private LocalDateTime rejectedAt;
 
+    // 낙관적 잠금 (엔티티 변경 경로) - 단건 수락/거절은 조건부 UPDATE에서 직접 증가
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     @PrePersist
     protected void onCreate() {
         if (requestedAt == null) {
@@ -46,6 +73,12 @@ public class FriendRelationship {
         if (status == null) {
             status = FriendshipStatus.PENDING;
         }
+        if (userLowId == null || userHighId == null) {
+            Long requesterId = requester.getUserId();
+            Long addresseeId = addressee.getUserId();
+            userLowId = Math.min(requesterId, addresseeId);
+            userHighId = Math.max(requesterId, addresseeId);
+        }
     }
 
     public enum FriendshipStatus {
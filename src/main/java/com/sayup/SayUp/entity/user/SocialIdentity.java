@@ -0,0 +1,62 @@
+package com.sayup.SayUp.entity.user;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 소셜 로그인 계정 연결 정보
+ * (provider, provider_user_id)로 사용자를 바로 찾으므로 소셜 로그인 시 이메일 조회와 비밀번호 해시가 필요 없다.
+ *
+ * 기존 DB(ddl-auto: validate)는 배포 전에 생성:
+ * <pre>
+ * CREATE TABLE social_identity (
+ *     id               BIGINT      NOT NULL AUTO_INCREMENT PRIMARY KEY,
+ *     provider         VARCHAR(20) NOT NULL,
+ *     provider_user_id VARCHAR(64) NOT NULL,
+ *     user_id          BIGINT      NOT NULL,
+ *     created_at       DATETIME(6) NOT NULL,
+ *     CONSTRAINT uk_social_identity_provider_user UNIQUE (provider, provider_user_id),
+ *     INDEX idx_social_identity_user (user_id),
+ *     CONSTRAINT fk_social_identity_user FOREIGN KEY (user_id) REFERENCES User (user_id)
+ * );
+ * </pre>
+ */
+@Entity
+@Table(name = "social_identity",
+        uniqueConstraints = @UniqueConstraint(name = "uk_social_identity_provider_user",
+                columnNames = {"provider", "provider_user_id"}),
+        indexes = @Index(name = "idx_social_identity_user", columnList = "user_id"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SocialIdentity {
+
+    public static final String PROVIDER_KAKAO = "KAKAO";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 20)
+    private String provider;
+
+    @Column(name = "provider_user_id", nullable = false, length = 64)
+    private String providerUserId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    public SocialIdentity(String provider, String providerUserId, User user) {
+        this.provider = provider;
+        this.providerUserId = providerUserId;
+        this.user = user;
+        this.createdAt = LocalDateTime.now();
+    }
+}
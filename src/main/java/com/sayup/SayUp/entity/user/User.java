@@ -8,6 +8,7 @@ import java.util.Objects;
 
 @Entity
 @Table(name = "User")
+@EntityListeners(UserEntityListener.class)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -25,7 +26,8 @@ public class User {
     @Column(unique = true, nullable = false, length = 255)
     private String email;
 
-    @Column(nullable = false, length = 255)
+    // 소셜 전용 계정은 null
+    @Column(length = 255)
     private String password;
 
     @Lob
@@ -45,6 +47,36 @@ public class User {
     @Builder.Default
     private Boolean isActive = true;
 
+    // 계정 상태 버전 - 비밀번호, 권한, 활성 여부가 바뀔 때마다 증가 (Access Token의 ver 클레임과 비교)
+    // 기존 DB(ddl-auto: validate)는 배포 전에 추가:
+    //   ALTER TABLE User ADD COLUMN account_version BIGINT NOT NULL DEFAULT 0;
+    @Column
+    @Builder.Default
+    private Long accountVersion = 0L;
+
+    // 계정 상태(비밀번호, 권한, 활성 여부) 변경 표시 - 인증 캐시 무효화 판단용
+    @Transient
+    @Builder.Default
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private boolean accountStateChanged = false;
+
+    // 조회 또는 마지막 저장 시점의 이메일, 이름, 활성 여부 - 변경 이벤트에 이전 값으로 담아 캐시 갱신 여부를 판단
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private String savedEmail;
+
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private String savedUsername;
+
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private Boolean savedActive;
+
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
@@ -54,6 +86,93 @@ public class User {
         if (isActive == null) {
             isActive = true;
         }
+        if (accountVersion == null) {
+            accountVersion = 0L;
+        }
+    }
+
+    public void setPassword(String password) {
+        if (!Objects.equals(this.password, password)) {
+            this.password = password;
+            markAccountStateChanged();
+        }
+    }
+
+    /**
+     * 같은 비밀번호를 새 해시 설정으로 다시 저장 (계정 상태 버전은 유지)
+     */
+    public void rehashPassword(String encodedPassword) {
+        this.password = encodedPassword;
+    }
+
+    public void setRole(String role) {
+        if (!Objects.equals(this.role, role)) {
+            this.role = role;
+            markAccountStateChanged();
+        }
+    }
+
+    public void setIsActive(Boolean isActive) {
+        if (!Objects.equals(this.isActive, isActive)) {
+            this.isActive = isActive;
+            markAccountStateChanged();
+        }
+    }
+
+    @PostLoad
+    protected void onLoad() {
+        rememberSavedState();
+    }
+
+    /**
+     * 조회 또는 마지막 저장 시점의 이메일
+     */
+    public String previousEmail() {
+        return hasSavedState() ? savedEmail : email;
+    }
+
+    /**
+     * 조회 또는 마지막 저장 시점의 이름
+     */
+    public String previousUsername() {
+        return hasSavedState() ? savedUsername : username;
+    }
+
+    /**
+     * 조회 또는 마지막 저장 시점의 활성 여부
+     */
+    public boolean previousActive() {
+        return Boolean.TRUE.equals(hasSavedState() ? savedActive : isActive);
+    }
+
+    // 이메일은 필수 컬럼이므로 저장 시점 값이 기록되었는지 판단에 사용
+    private boolean hasSavedState() {
+        return savedEmail != null;
+    }
+
+    void rememberSavedState() {
+        this.savedEmail = email;
+        this.savedUsername = username;
+        this.savedActive = isActive;
+    }
+
+    public long currentAccountVersion() {
+        return accountVersion != null ? accountVersion : 0L;
+    }
+
+    private void markAccountStateChanged() {
+        if (!accountStateChanged) {
+            this.accountVersion = currentAccountVersion() + 1;
+            this.accountStateChanged = true;
+        }
+    }
+
+    public boolean isAccountStateChanged() {
+        return accountStateChanged;
+    }
+
+    void clearAccountStateChanged() {
+        this.accountStateChanged = false;
     }
 
     @Override
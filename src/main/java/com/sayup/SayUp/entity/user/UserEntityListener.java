@@ -0,0 +1,44 @@
+package com.sayup.SayUp.entity.user;
+
+import com.sayup.SayUp.event.UserAccountChangedEvent;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * User 엔티티 변경 시 UserAccountChangedEvent 발행
+ * (Hibernate가 Spring 빈 컨테이너를 통해 생성하므로 생성자 주입 가능)
+ */
+public class UserEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public UserEntityListener(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @PostPersist
+    public void onUserCreated(User user) {
+        boolean active = Boolean.TRUE.equals(user.getIsActive());
+        eventPublisher.publishEvent(new UserAccountChangedEvent(user.getUserId(), user.getEmail(), user.getEmail(),
+                user.getUsername(), user.getUsername(), active, active, false, user.currentAccountVersion()));
+        user.rememberSavedState();
+    }
+
+    @PostUpdate
+    public void onUserUpdated(User user) {
+        eventPublisher.publishEvent(new UserAccountChangedEvent(user.getUserId(), user.getEmail(), user.previousEmail(),
+                user.getUsername(), user.previousUsername(), Boolean.TRUE.equals(user.getIsActive()), user.previousActive(),
+                user.isAccountStateChanged(), user.currentAccountVersion()));
+        user.clearAccountStateChanged();
+        user.rememberSavedState();
+    }
+
+    @PostRemove
+    public void onUserRemoved(User user) {
+        eventPublisher.publishEvent(new UserAccountChangedEvent(user.getUserId(), user.getEmail(), user.previousEmail(),
+                user.getUsername(), user.previousUsername(), false, user.previousActive(), true,
+                user.currentAccountVersion() + 1));
+    }
+}
@@ -0,0 +1,24 @@
+package com.sayup.SayUp.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 친구 관계 변경 이벤트
+ * 친구 ID 캐시 등 친구 관계를 보관하는 컴포넌트의 갱신에 사용한다.
+ */
+@Getter
+@AllArgsConstructor
+public class FriendshipChangedEvent {
+
+    public enum Type {
+        REQUESTED,
+        ACCEPTED,
+        REJECTED,
+        REMOVED
+    }
+
+    private final Type type;
+    private final Long requesterId;
+    private final Long addresseeId;
+}
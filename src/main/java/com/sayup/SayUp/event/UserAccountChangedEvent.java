@@ -0,0 +1,34 @@
+package com.sayup.SayUp.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 사용자 엔티티 변경 이벤트
+ * 인증 정보 캐시, 사용자 검색 색인 등 사용자 정보를 보관하는 컴포넌트의 갱신에 사용한다.
+ */
+@Getter
+@AllArgsConstructor
+public class UserAccountChangedEvent {
+    private final Long userId;
+    private final String email;
+
+    // 변경 전 이메일 (바뀌지 않았으면 email과 같음)
+    private final String previousEmail;
+    private final String username;
+
+    // 변경 전 이름 (바뀌지 않았으면 username과 같음)
+    private final String previousUsername;
+
+    // 활성 사용자 여부 (삭제된 경우 false)
+    private final boolean active;
+
+    // 변경 전 활성 여부
+    private final boolean previousActive;
+
+    // 비밀번호, 권한, 활성 여부 중 하나라도 변경되었는지 여부
+    private final boolean accountStateChanged;
+
+    // 변경 후 계정 상태 버전
+    private final long accountVersion;
+}
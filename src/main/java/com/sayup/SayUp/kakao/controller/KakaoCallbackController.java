@@ -13,6 +13,8 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import java.util.Map;
 
@@ -25,53 +27,58 @@ public class KakaoCallbackController {
     private final KakaoService kakaoService;
     private final AuthService authService;
 
+    /**
+     * 카카오 로그인 콜백
+     * 카카오 API 호출은 논블로킹으로 처리하고, DB 작업(로그인/가입)만 boundedElastic 스레드에서 수행하여
+     * 원격 호출 동안 서블릿 스레드를 점유하지 않는다.
+     */
     @GetMapping("/callback")
-    public ResponseEntity<?> callback(@RequestParam("code") String code) {
-        try {
-            log.info("Kakao login callback received with code: {}", code.substring(0, Math.min(10, code.length())));
-            
-            // 카카오 액세스 토큰 획득
-            String accessToken = kakaoService.getAccessToken(code).getAccessToken();
-            
-            // 카카오 사용자 정보 획득
-            KakaoUserInfoResponseDto userInfo = kakaoService.getUserInfo(accessToken);
-            
-            // 이메일 검증
-            if (userInfo.getKakaoAccount() == null || 
-                userInfo.getKakaoAccount().getEmail() == null ||
-                userInfo.getKakaoAccount().getEmail().trim().isEmpty()) {
-                
-                log.warn("Kakao login failed: Email not provided by user");
-                return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-                        .body(Map.of("error", "이메일 정보 제공에 동의해주세요."));
-            }
+    public Mono<ResponseEntity<?>> callback(@RequestParam("code") String code) {
+        log.info("Kakao login callback received with code: {}", code.substring(0, Math.min(10, code.length())));
 
-            String email = userInfo.getKakaoAccount().getEmail();
-            
-            // 이메일 인증 여부 확인
-            if (userInfo.getKakaoAccount().getIsEmailVerified() != null && 
-                !userInfo.getKakaoAccount().getIsEmailVerified()) {
-                
-                log.warn("Kakao login failed: Email not verified for user: {}", email);
-                return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-                        .body(Map.of("error", "인증된 이메일을 사용해주세요."));
-            }
+        // 카카오 토큰 발급 및 사용자 정보 획득 (OIDC 모드에서는 ID 토큰 로컬 검증)
+        return kakaoService.processKakaoLogin(code)
+                .publishOn(Schedulers.boundedElastic())
+                .<ResponseEntity<?>>map(this::completeLogin)
+                .onErrorResume(KakaoApiException.class, e -> {
+                    log.error("Kakao API error during login: {}", e.getMessage());
+                    return Mono.just(ResponseEntity.status(HttpStatus.BAD_GATEWAY)
+                            .body(Map.of("error", "카카오 로그인 중 오류가 발생했습니다. 다시 시도해주세요.")));
+                })
+                .onErrorResume(e -> !(e instanceof KakaoApiException), e -> {
+                    log.error("Unexpected error during Kakao login: ", e);
+                    return Mono.just(ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                            .body(Map.of("error", "로그인 처리 중 오류가 발생했습니다.")));
+                });
+    }
 
-            // 사용자 로그인/등록 처리
-            AuthResponseDTO response = authService.kakaoLogin(email);
+    private ResponseEntity<?> completeLogin(KakaoUserInfoResponseDto userInfo) {
+        // 이메일 검증
+        if (userInfo.getKakaoAccount() == null || 
+            userInfo.getKakaoAccount().getEmail() == null ||
+            userInfo.getKakaoAccount().getEmail().trim().isEmpty()) {
             
-            log.info("Kakao login successful for user: {}", email);
-            
-            return ResponseEntity.ok(response);
+            log.warn("Kakao login failed: Email not provided by user");
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(Map.of("error", "이메일 정보 제공에 동의해주세요."));
+        }
+
+        String email = userInfo.getKakaoAccount().getEmail();
+        
+        // 이메일 인증 여부 확인
+        if (userInfo.getKakaoAccount().getIsEmailVerified() != null && 
+            !userInfo.getKakaoAccount().getIsEmailVerified()) {
             
-        } catch (KakaoApiException e) {
-            log.error("Kakao API error during login: {}", e.getMessage());
-            return ResponseEntity.status(HttpStatus.BAD_GATEWAY)
-                    .body(Map.of("error", "카카오 로그인 중 오류가 발생했습니다. 다시 시도해주세요."));
-        } catch (Exception e) {
-            log.error("Unexpected error during Kakao login: ", e);
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(Map.of("error", "로그인 처리 중 오류가 발생했습니다."));
+            log.warn("Kakao login failed: Email not verified for user: {}", email);
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(Map.of("error", "인증된 이메일을 사용해주세요."));
         }
+
+        // 사용자 로그인/등록 처리
+        AuthResponseDTO response = authService.kakaoLogin(userInfo);
+        
+        log.info("Kakao login successful for user: {}", email);
+        
+        return ResponseEntity.ok(response);
     }
 }
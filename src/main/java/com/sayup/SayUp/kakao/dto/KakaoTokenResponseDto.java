@@ -28,6 +28,10 @@ public class KakaoTokenResponseDto {
     @JsonProperty("scope")
     private String scope;
 
+    // OpenID Connect 활성화 시 함께 발급되는 ID 토큰
+    @JsonProperty("id_token")
+    private String idToken;
+
     /**
      * 토큰 유효성 검증
      */
@@ -41,4 +45,11 @@ public class KakaoTokenResponseDto {
     public boolean hasRefreshToken() {
         return refreshToken != null && !refreshToken.trim().isEmpty();
     }
+
+    /**
+     * ID 토큰 포함 여부
+     */
+    public boolean hasIdToken() {
+        return idToken != null && !idToken.trim().isEmpty();
+    }
 }
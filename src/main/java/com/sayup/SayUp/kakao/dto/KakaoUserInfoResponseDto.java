@@ -76,6 +76,26 @@ public class KakaoUserInfoResponseDto {
         }
     }
 
+    /**
+     * 검증된 ID 토큰의 클레임으로 생성 (사용자 정보 API 호출 생략)
+     * 카카오는 유효하고 인증된 이메일만 ID 토큰에 포함하므로 이메일이 있으면 인증된 것으로 본다.
+     */
+    public static KakaoUserInfoResponseDto fromIdToken(Long id, String email, String nickname, String profileImageUrl) {
+        KakaoAccount.Profile profile = new KakaoAccount.Profile();
+        profile.nickname = nickname;
+        profile.profileImageUrl = profileImageUrl;
+
+        KakaoAccount account = new KakaoAccount();
+        account.profile = profile;
+        account.email = email;
+        account.isEmailVerified = email != null;
+
+        KakaoUserInfoResponseDto userInfo = new KakaoUserInfoResponseDto();
+        userInfo.id = id;
+        userInfo.kakaoAccount = account;
+        return userInfo;
+    }
+
     /**
      * 사용자 이메일 추출 (우선순위: kakao_account.email > properties.email)
      */
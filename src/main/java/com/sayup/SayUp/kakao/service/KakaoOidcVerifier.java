@@ -0,0 +1,155 @@
+package com.sayup.SayUp.kakao.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sayup.SayUp.kakao.dto.KakaoUserInfoResponseDto;
+import com.sayup.SayUp.kakao.exception.KakaoApiException;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.UnsupportedJwtException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.math.BigInteger;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.spec.RSAPublicKeySpec;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 카카오 OpenID Connect ID 토큰 로컬 검증
+ * 카카오 공개 키(JWKS)를 캐시해 두고 주기적으로 갱신하며, 캐시에 없는 kid가 오면 즉시 한 번 다시 조회한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "kakao.oidc.enabled", havingValue = "true")
+public class KakaoOidcVerifier extends SigningKeyResolverAdapter {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    // 알 수 없는 kid로 인한 JWKS 재조회 최소 간격 (위조 토큰으로 카카오를 반복 호출하지 않도록)
+    private static final long MIN_REFRESH_INTERVAL_MILLIS = 60_000;
+
+    private final String jwksUri;
+    private final WebClient webClient;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final JwtParser idTokenParser;
+
+    private volatile Map<String, PublicKey> keys = Map.of();
+    private volatile long lastRefreshAt = 0;
+
+    public KakaoOidcVerifier(@Value("${kakao.client_id}") String clientId,
+                             @Value("${kakao.oidc.issuer:https://kauth.kakao.com}") String issuer,
+                             @Value("${kakao.oidc.jwks-uri:https://kauth.kakao.com/.well-known/jwks.json}") String jwksUri,
+                             @Qualifier("kakaoWebClient") WebClient webClient) {
+        this.jwksUri = jwksUri;
+        this.webClient = webClient;
+        this.idTokenParser = Jwts.parserBuilder()
+                .setSigningKeyResolver(this)
+                .requireIssuer(issuer)
+                .requireAudience(clientId)
+                .setAllowedClockSkewSeconds(60)
+                .build();
+    }
+
+    /**
+     * ID 토큰 검증 후 사용자 정보로 변환
+     *
+     * @throws KakaoApiException 서명, 발급자, 대상, 만료 검증에 실패한 경우
+     */
+    public KakaoUserInfoResponseDto verify(String idToken) {
+        try {
+            Claims claims = idTokenParser.parseClaimsJws(idToken).getBody();
+            return KakaoUserInfoResponseDto.fromIdToken(
+                    Long.valueOf(claims.getSubject()),
+                    claims.get("email", String.class),
+                    claims.get("nickname", String.class),
+                    claims.get("picture", String.class)
+            );
+        } catch (JwtException | IllegalArgumentException e) {
+            throw new KakaoApiException("Invalid Kakao id_token: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 주기적인 JWKS 갱신 (키 교체 대비)
+     */
+    @Scheduled(fixedDelayString = "${kakao.oidc.jwks-refresh-interval:3600000}")
+    public void refreshKeys() {
+        try {
+            String body = webClient.get()
+                    .uri(jwksUri)
+                    .retrieve()
+                    .bodyToMono(String.class)
+                    .timeout(TIMEOUT)
+                    .block();
+
+            Map<String, PublicKey> loaded = parseJwks(body);
+            if (!loaded.isEmpty()) {
+                this.keys = loaded;
+            }
+            log.info("Kakao JWKS refreshed with {} keys", loaded.size());
+        } catch (Exception e) {
+            // 갱신 실패 시 기존 키 유지
+            log.warn("Failed to refresh Kakao JWKS: {}", e.getMessage());
+        } finally {
+            this.lastRefreshAt = System.currentTimeMillis();
+        }
+    }
+
+    @Override
+    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+        if (!"RS256".equals(header.getAlgorithm())) {
+            throw new UnsupportedJwtException("Unexpected Kakao id_token algorithm: " + header.getAlgorithm());
+        }
+
+        String kid = header.getKeyId();
+        PublicKey key = keys.get(kid);
+        if (key == null) {
+            refreshIfStale();
+            key = keys.get(kid);
+        }
+        if (key == null) {
+            throw new UnsupportedJwtException("Unknown Kakao key id: " + kid);
+        }
+        return key;
+    }
+
+    private synchronized void refreshIfStale() {
+        if (System.currentTimeMillis() - lastRefreshAt >= MIN_REFRESH_INTERVAL_MILLIS) {
+            refreshKeys();
+        }
+    }
+
+    private Map<String, PublicKey> parseJwks(String body) throws Exception {
+        Map<String, PublicKey> loaded = new HashMap<>();
+        if (!StringUtils.hasText(body)) {
+            return loaded;
+        }
+
+        KeyFactory keyFactory = KeyFactory.getInstance("RSA");
+        for (JsonNode jwk : objectMapper.readTree(body).path("keys")) {
+            if (!"RSA".equals(jwk.path("kty").asText()) || !jwk.hasNonNull("kid")) {
+                continue;
+            }
+            BigInteger modulus = new BigInteger(1, Base64.getUrlDecoder().decode(jwk.path("n").asText()));
+            BigInteger exponent = new BigInteger(1, Base64.getUrlDecoder().decode(jwk.path("e").asText()));
+            loaded.put(jwk.path("kid").asText(), keyFactory.generatePublic(new RSAPublicKeySpec(modulus, exponent)));
+        }
+        return loaded;
+    }
+}
@@ -4,6 +4,8 @@ import com.sayup.SayUp.kakao.dto.KakaoTokenResponseDto;
 import com.sayup.SayUp.kakao.dto.KakaoUserInfoResponseDto;
 import com.sayup.SayUp.kakao.exception.KakaoApiException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatusCode;
@@ -12,6 +14,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import java.time.Duration;
 
@@ -26,84 +29,94 @@ public class KakaoService {
     private final String clientId;
     private final WebClient webClient;
 
-    public KakaoService(@Value("${kakao.client_id}") String clientId) {
+    // OIDC 모드(kakao.oidc.enabled=true)에서만 존재
+    private final KakaoOidcVerifier oidcVerifier;
+
+    public KakaoService(@Value("${kakao.client_id}") String clientId,
+                        @Qualifier("kakaoWebClient") WebClient webClient,
+                        ObjectProvider<KakaoOidcVerifier> oidcVerifier) {
         this.clientId = clientId;
-        this.webClient = WebClient.builder()
-                .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(1024 * 1024)) // 1MB
-                .build();
+        this.webClient = webClient;
+        this.oidcVerifier = oidcVerifier.getIfAvailable();
     }
 
     /**
      * 카카오 인증 코드로 액세스 토큰 발급
      */
-    public KakaoTokenResponseDto getAccessToken(String code) {
+    public Mono<KakaoTokenResponseDto> getAccessToken(String code) {
         validateCode(code);
 
-        try {
-            log.info("Requesting Kakao access token with code: {}...", 
-                    StringUtils.truncate(code, 10));
-
-            KakaoTokenResponseDto response = webClient.post()
-                    .uri(KAUTH_TOKEN_URL)
-                    .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_FORM_URLENCODED_VALUE)
-                    .bodyValue(buildTokenRequest(code))
-                    .retrieve()
-                    .onStatus(HttpStatusCode::is4xxClientError, 
-                            this::handleClientError)
-                    .onStatus(HttpStatusCode::is5xxServerError, 
-                            this::handleServerError)
-                    .bodyToMono(KakaoTokenResponseDto.class)
-                    .timeout(TIMEOUT)
-                    .block();
-
-            validateTokenResponse(response);
-            log.info("Kakao access token obtained successfully");
-            return response;
-
-        } catch (Exception e) {
-            log.error("Error obtaining Kakao access token: {}", e.getMessage());
-            throw new KakaoApiException("Failed to authenticate with Kakao: " + e.getMessage());
-        }
+        log.info("Requesting Kakao access token with code: {}...", 
+                StringUtils.truncate(code, 10));
+
+        return webClient.post()
+                .uri(KAUTH_TOKEN_URL)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_FORM_URLENCODED_VALUE)
+                .bodyValue(buildTokenRequest(code))
+                .retrieve()
+                .onStatus(HttpStatusCode::is4xxClientError, 
+                        this::handleClientError)
+                .onStatus(HttpStatusCode::is5xxServerError, 
+                        this::handleServerError)
+                .bodyToMono(KakaoTokenResponseDto.class)
+                .timeout(TIMEOUT)
+                .switchIfEmpty(Mono.error(() -> new KakaoApiException("Failed to obtain valid access token from Kakao")))
+                .doOnNext(this::validateTokenResponse)
+                .doOnNext(response -> log.info("Kakao access token obtained successfully"))
+                .onErrorMap(e -> !(e instanceof KakaoApiException), e -> {
+                    log.error("Error obtaining Kakao access token: {}", e.getMessage());
+                    return new KakaoApiException("Failed to authenticate with Kakao: " + e.getMessage(), e);
+                });
     }
 
     /**
      * 액세스 토큰으로 카카오 사용자 정보 조회
      */
-    public KakaoUserInfoResponseDto getUserInfo(String accessToken) {
+    public Mono<KakaoUserInfoResponseDto> getUserInfo(String accessToken) {
         validateAccessToken(accessToken);
 
-        try {
-            log.info("Requesting Kakao user info");
-
-            KakaoUserInfoResponseDto response = webClient.get()
-                    .uri(KAPI_USER_URL)
-                    .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
-                    .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_FORM_URLENCODED_VALUE)
-                    .retrieve()
-                    .onStatus(HttpStatusCode::is4xxClientError, 
-                            this::handleClientError)
-                    .onStatus(HttpStatusCode::is5xxServerError, 
-                            this::handleServerError)
-                    .bodyToMono(KakaoUserInfoResponseDto.class)
-                    .timeout(TIMEOUT)
-                    .block();
-
-            validateUserInfoResponse(response);
-            log.info("Kakao user info obtained successfully for user ID: {}", response.getId());
-            return response;
-
-        } catch (Exception e) {
-            log.error("Error obtaining Kakao user info: {}", e.getMessage());
-            throw new KakaoApiException("Failed to get user info from Kakao: " + e.getMessage());
-        }
+        log.info("Requesting Kakao user info");
+
+        return webClient.get()
+                .uri(KAPI_USER_URL)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_FORM_URLENCODED_VALUE)
+                .retrieve()
+                .onStatus(HttpStatusCode::is4xxClientError, 
+                        this::handleClientError)
+                .onStatus(HttpStatusCode::is5xxServerError, 
+                        this::handleServerError)
+                .bodyToMono(KakaoUserInfoResponseDto.class)
+                .timeout(TIMEOUT)
+                .switchIfEmpty(Mono.error(() -> new KakaoApiException("Failed to obtain valid user info from Kakao")))
+                .doOnNext(this::validateUserInfoResponse)
+                .doOnNext(response -> log.info("Kakao user info obtained successfully for user ID: {}", response.getId()))
+                .onErrorMap(e -> !(e instanceof KakaoApiException), e -> {
+                    log.error("Error obtaining Kakao user info: {}", e.getMessage());
+                    return new KakaoApiException("Failed to get user info from Kakao: " + e.getMessage(), e);
+                });
     }
 
     /**
      * 카카오 로그인 처리 (토큰 발급 + 사용자 정보 조회)
+     * OIDC 모드에서는 토큰 응답의 ID 토큰을 로컬에서 검증하여 사용자 정보 API 호출을 생략하고,
+     * ID 토큰이 없거나 검증에 실패하면 사용자 정보 API로 대체한다.
      */
-    public KakaoUserInfoResponseDto processKakaoLogin(String code) {
-        KakaoTokenResponseDto tokenResponse = getAccessToken(code);
-        return getUserInfo(tokenResponse.getAccessToken());
+    public Mono<KakaoUserInfoResponseDto> processKakaoLogin(String code) {
+        return getAccessToken(code).flatMap(tokenResponse -> {
+            if (oidcVerifier == null || !tokenResponse.hasIdToken()) {
+                return getUserInfo(tokenResponse.getAccessToken());
+            }
+
+            // JWKS 갱신이 필요한 경우 블로킹 조회가 일어나므로 이벤트 루프 밖에서 검증
+            return Mono.fromCallable(() -> oidcVerifier.verify(tokenResponse.getIdToken()))
+                    .subscribeOn(Schedulers.boundedElastic())
+                    .doOnNext(userInfo -> log.info("Kakao id_token verified locally for user ID: {}", userInfo.getId()))
+                    .onErrorResume(KakaoApiException.class, e -> {
+                        log.warn("Falling back to Kakao user info API: {}", e.getMessage());
+                        return getUserInfo(tokenResponse.getAccessToken());
+                    });
+        });
     }
 
     // Private helper methods
@@ -23,4 +23,12 @@ public interface ChatRoomRepository extends JpaRepository<ChatRoom, Long> {
     // 채팅방 참여자 수로 채팅방 조회 (1:1 채팅방만)
     @Query("SELECT r FROM ChatRoom r JOIN r.participants p GROUP BY r HAVING COUNT(p) = 2")
     List<ChatRoom> findOneToOneChatRooms();
+
+    // 사용자가 채팅방 참여자인지 확인 (구독 시 한 번만 확인)
+    @Query("SELECT COUNT(p) > 0 FROM ChatRoom r JOIN r.participants p WHERE r.id = :roomId AND p.userId = :userId")
+    boolean isParticipant(@Param("roomId") Long roomId, @Param("userId") Long userId);
+
+    // 채팅방 참여자 ID (최근 메시지 버퍼에 보관해 메시지 조회 시 권한 확인)
+    @Query("SELECT p.userId FROM ChatRoom r JOIN r.participants p WHERE r.id = :roomId")
+    List<Long> findParticipantIds(@Param("roomId") Long roomId);
 }
@@ -1,24 +1,96 @@
 package com.sayup.SayUp.repository;
 
+import com.sayup.SayUp.dto.friend.FriendDTO;
 import com.sayup.SayUp.entity.friend.FriendRelationship;
 import com.sayup.SayUp.entity.user.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface FriendshipRepository extends JpaRepository<FriendRelationship, Long> {
-    // 특정 유저에게 온 친구 요청 중 특정 상태인 관계 조회
-    List<FriendRelationship> findByAddresseeAndStatus(User addressee, FriendRelationship.FriendshipStatus status);
+    // 친구 그래프 적재용 간선 (관계 ID, 정규화된 사용자 쌍)
+    interface FriendEdge {
+        Long getId();
+        Long getUserLowId();
+        Long getUserHighId();
+    }
 
-    // 두 유저 간 친구 관계 조회
-    @Query("SELECT f FROM FriendRelationship f WHERE " +
-            "(f.requester = :user1 AND f.addressee = :user2) OR " +
-            "(f.requester = :user2 AND f.addressee = :user1)")
-    Optional<FriendRelationship> findRelationship(User user1, User user2);
+    // 수락된 관계 전체를 ID 순 키셋 배치로 조회 (친구 그래프 전체 적재)
+    @Query("SELECT f.id AS id, f.userLowId AS userLowId, f.userHighId AS userHighId " +
+            "FROM FriendRelationship f WHERE f.status = 'ACCEPTED' AND f.id > :afterId ORDER BY f.id")
+    List<FriendEdge> findAcceptedEdges(Long afterId, Pageable pageable);
+
+    // 특정 시각 이후 수락된 관계 조회 (친구 그래프 스냅샷 이후 변경분)
+    @Query("SELECT f.id AS id, f.userLowId AS userLowId, f.userHighId AS userHighId " +
+            "FROM FriendRelationship f WHERE f.status = 'ACCEPTED' AND f.acceptedAt >= :since AND f.id > :afterId " +
+            "ORDER BY f.id")
+    List<FriendEdge> findAcceptedEdgesSince(LocalDateTime since, Long afterId, Pageable pageable);
 
-    // user의 친구 목록 조회
+    // user와 여러 사용자 간의 관계 일괄 조회 (일괄 처리용)
     @Query("SELECT f FROM FriendRelationship f WHERE " +
-            "((f.requester = :user OR f.addressee = :user) AND f.status = 'ACCEPTED')")
-    List<FriendRelationship> findAllFriends(User user);
+            "(f.userLowId = :userId AND f.userHighId IN :otherIds) OR " +
+            "(f.userHighId = :userId AND f.userLowId IN :otherIds)")
+    List<FriendRelationship> findAllBetween(Long userId, Collection<Long> otherIds);
+
+    // 받은 대기 요청 키셋 페이지 (최신순, 요청자 함께 조회)
+    @Query("SELECT f FROM FriendRelationship f JOIN FETCH f.requester r " +
+            "WHERE f.addressee.userId = :userId AND f.status = 'PENDING' AND r.isActive = true " +
+            "AND (f.requestedAt < :cursorAt OR (f.requestedAt = :cursorAt AND f.id < :cursorId)) " +
+            "ORDER BY f.requestedAt DESC, f.id DESC")
+    List<FriendRelationship> findPendingPage(Long userId, LocalDateTime cursorAt, Long cursorId, Pageable pageable);
+
+    // 친구 목록 키셋 페이지 - user가 쌍의 작은 ID인 관계 (친구는 큰 ID 쪽)
+    @Query("SELECT new com.sayup.SayUp.dto.friend.FriendDTO(u.userId, u.username, u.email, f.id, f.acceptedAt) " +
+            "FROM FriendRelationship f JOIN User u ON u.userId = f.userHighId " +
+            "WHERE f.userLowId = :userId AND f.status = 'ACCEPTED' AND u.isActive = true " +
+            "AND (f.acceptedAt < :cursorAt OR (f.acceptedAt = :cursorAt AND f.id < :cursorId)) " +
+            "ORDER BY f.acceptedAt DESC, f.id DESC")
+    List<FriendDTO> findFriendPageAsLow(Long userId, LocalDateTime cursorAt, Long cursorId, Pageable pageable);
+
+    // 친구 목록 키셋 페이지 - user가 쌍의 큰 ID인 관계 (친구는 작은 ID 쪽)
+    @Query("SELECT new com.sayup.SayUp.dto.friend.FriendDTO(u.userId, u.username, u.email, f.id, f.acceptedAt) " +
+            "FROM FriendRelationship f JOIN User u ON u.userId = f.userLowId " +
+            "WHERE f.userHighId = :userId AND f.status = 'ACCEPTED' AND u.isActive = true " +
+            "AND (f.acceptedAt < :cursorAt OR (f.acceptedAt = :cursorAt AND f.id < :cursorId)) " +
+            "ORDER BY f.acceptedAt DESC, f.id DESC")
+    List<FriendDTO> findFriendPageAsHigh(Long userId, LocalDateTime cursorAt, Long cursorId, Pageable pageable);
+
+    // 정규화된 사용자 쌍으로 관계 조회 (유니크 인덱스 단건 조회)
+    Optional<FriendRelationship> findByUserLowIdAndUserHighId(Long userLowId, Long userHighId);
+
+    // 두 유저 간 친구 관계 조회 (방향 무관)
+    default Optional<FriendRelationship> findRelationship(Long userId1, Long userId2) {
+        return findByUserLowIdAndUserHighId(Math.min(userId1, userId2), Math.max(userId1, userId2));
+    }
+
+    default Optional<FriendRelationship> findRelationship(User user1, User user2) {
+        return findRelationship(user1.getUserId(), user2.getUserId());
+    }
+
+    // 대기 중인 요청만 수락 (조건부 UPDATE - 변경된 행 수 반환, 0이면 이미 처리되었거나 권한 없음)
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE FriendRelationship f SET f.status = 'ACCEPTED', f.acceptedAt = :at, f.version = f.version + 1 " +
+            "WHERE f.id = :id AND f.addressee.userId = :addresseeId AND f.status = 'PENDING'")
+    int acceptPending(Long id, Long addresseeId, LocalDateTime at);
+
+    // 대기 중인 요청만 거절
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE FriendRelationship f SET f.status = 'REJECTED', f.rejectedAt = :at, f.version = f.version + 1 " +
+            "WHERE f.id = :id AND f.addressee.userId = :addresseeId AND f.status = 'PENDING'")
+    int rejectPending(Long id, Long addresseeId, LocalDateTime at);
+
+    // user의 친구 ID 목록 조회 (User 조인 없이 정규화된 쌍 컬럼만 사용)
+    @Query("SELECT CASE WHEN f.userLowId = :userId THEN f.userHighId ELSE f.userLowId END " +
+            "FROM FriendRelationship f WHERE " +
+            "((f.userLowId = :userId OR f.userHighId = :userId) AND f.status = 'ACCEPTED')")
+    List<Long> findFriendIds(Long userId);
 }
@@ -0,0 +1,22 @@
+package com.sayup.SayUp.repository;
+
+import com.sayup.SayUp.dto.chat.ChatMessageDTO;
+import com.sayup.SayUp.entity.chat.Messages;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface MessagesRepository extends JpaRepository<Messages, Long> {
+
+    // 채팅방의 마지막 메시지 순번 (메시지가 없으면 0)
+    @Query("SELECT COALESCE(MAX(m.seq), 0) FROM Messages m WHERE m.roomId = :roomId")
+    long findMaxSeq(@Param("roomId") Long roomId);
+
+    // 채팅방 메시지 키셋 페이지 (순번 역순, (room_id, seq) 유니크 인덱스 범위 조회)
+    @Query("SELECT new com.sayup.SayUp.dto.chat.ChatMessageDTO(m.roomId, m.seq, m.senderId, m.content, m.createdAt) " +
+            "FROM Messages m WHERE m.roomId = :roomId AND m.seq < :beforeSeq ORDER BY m.seq DESC")
+    List<ChatMessageDTO> findRoomPage(@Param("roomId") Long roomId, @Param("beforeSeq") Long beforeSeq, Pageable pageable);
+}
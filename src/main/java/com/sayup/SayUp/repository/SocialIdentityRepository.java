@@ -0,0 +1,19 @@
+package com.sayup.SayUp.repository;
+
+import com.sayup.SayUp.entity.user.SocialIdentity;
+import com.sayup.SayUp.entity.user.User;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface SocialIdentityRepository extends JpaRepository<SocialIdentity, Long> {
+
+    // (provider, provider_user_id) 유니크 인덱스로 연결된 사용자 조회
+    @Query("SELECT s.user FROM SocialIdentity s WHERE s.provider = :provider AND s.providerUserId = :providerUserId")
+    Optional<User> findUserByProviderAndProviderUserId(@Param("provider") String provider,
+                                                       @Param("providerUserId") String providerUserId);
+}
@@ -1,25 +1,40 @@
 package com.sayup.SayUp.repository;
 
+import com.sayup.SayUp.dto.user.UserProfileDTO;
 import com.sayup.SayUp.entity.user.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
-import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
+    // 검색 색인 적재용 프로필
+    interface SearchProfile {
+        Long getUserId();
+        String getUsername();
+        String getEmail();
+    }
+
     Optional<User> findByEmail(String email);
 
     boolean existsByEmail(String email);
 
     Optional<User> findByEmailAndIsActiveTrue(String email);
 
-    // email 또는 username 중 하나라도 일치하는 유저 조회
-    @Query("SELECT u FROM User u WHERE (:email IS NULL OR u.email = :email) AND (:username IS NULL OR u.username = :username)")
-    List<User> findByEmailOrUsername(@Param("email") String email, @Param("username") String username);
+    // 활성 사용자 프로필을 ID 순 키셋 배치로 조회 (검색 색인 전체 적재)
+    @Query("SELECT u.userId AS userId, u.username AS username, u.email AS email " +
+            "FROM User u WHERE u.isActive = true AND u.userId > :afterId ORDER BY u.userId")
+    List<SearchProfile> findActiveSearchProfiles(Long afterId, Pageable pageable);
+
+    // 화면 표시용 프로필 일괄 조회 (TTS 벡터 LOB 제외)
+    @Query("SELECT new com.sayup.SayUp.dto.user.UserProfileDTO(u.userId, u.username, u.isActive) " +
+            "FROM User u WHERE u.userId IN :userIds")
+    List<UserProfileDTO> findProfilesByIds(Collection<Long> userIds);
 
     // 활성 사용자만 조회
     @Query("SELECT u FROM User u WHERE u.isActive = true")
@@ -0,0 +1,95 @@
+package com.sayup.SayUp.security;
+
+import com.sayup.SayUp.service.chat.ChatRoomService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 구독 목적지 검사와 채팅방 구독(/topic/chat-rooms/{roomId}) 시 참여자 확인
+ * 브로커는 구독 목적지의 패턴(*, **, {var})을 그대로 매칭하므로 패턴이 들어간 구독과
+ * 정확한 채팅방 주소가 아닌 /topic, 사용자 목적지(/user)를 거치지 않은 /queue 구독은 모두 거부한다.
+ * 확인된 채팅방은 세션 속성에 기록하여 연결이 유지되는 동안 메시지 전송 시 다시 조회하지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatRoomSubscriptionInterceptor implements ChannelInterceptor {
+
+    public static final String JOINED_ROOMS_ATTRIBUTE = "chat.joinedRooms";
+    private static final String TOPIC_PREFIX = "/topic";
+    private static final String QUEUE_PREFIX = "/queue";
+    private static final Pattern ROOM_TOPIC = Pattern.compile("/topic/chat-rooms/(\\d{1,18})");
+
+    private final ChatRoomService chatRoomService;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || !StompCommand.SUBSCRIBE.equals(accessor.getCommand())) {
+            return message;
+        }
+
+        String destination = accessor.getDestination();
+        if (destination == null || isPattern(destination)) {
+            log.warn("Rejected subscription to destination {}", destination);
+            throw new AccessDeniedException("구독할 수 없는 주소입니다.");
+        }
+        if (destination.startsWith(QUEUE_PREFIX)) {
+            // 다른 사용자의 큐는 /user 목적지로만 구독 가능
+            log.warn("Rejected direct queue subscription to {}", destination);
+            throw new AccessDeniedException("구독할 수 없는 주소입니다.");
+        }
+        if (!destination.startsWith(TOPIC_PREFIX)) {
+            return message;
+        }
+
+        Matcher matcher = ROOM_TOPIC.matcher(destination);
+        if (!matcher.matches()) {
+            log.warn("Rejected subscription to unknown topic {}", destination);
+            throw new AccessDeniedException("잘못된 채팅방 주소입니다.");
+        }
+        Long roomId = Long.valueOf(matcher.group(1));
+
+        if (!(accessor.getUser() instanceof StompPrincipal principal)) {
+            throw new AccessDeniedException("인증되지 않은 구독입니다.");
+        }
+        try {
+            chatRoomService.joinRoom(roomId, principal.getUserId());
+        } catch (IllegalArgumentException e) {
+            throw new AccessDeniedException(e.getMessage());
+        }
+
+        joinedRooms(accessor.getSessionAttributes()).add(roomId);
+        return message;
+    }
+
+    // 브로커가 패턴으로 해석하는 문자가 들어 있는지
+    private static boolean isPattern(String destination) {
+        return destination.indexOf('*') >= 0 || destination.indexOf('?') >= 0 || destination.indexOf('{') >= 0;
+    }
+
+    /**
+     * 세션에서 구독이 확인된 채팅방 ID
+     */
+    @SuppressWarnings("unchecked")
+    public static Set<Long> joinedRooms(Map<String, Object> sessionAttributes) {
+        if (sessionAttributes == null) {
+            return ConcurrentHashMap.newKeySet();
+        }
+        return (Set<Long>) sessionAttributes.computeIfAbsent(JOINED_ROOMS_ATTRIBUTE, key -> ConcurrentHashMap.newKeySet());
+    }
+}
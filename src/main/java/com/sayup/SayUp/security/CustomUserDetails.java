@@ -7,11 +7,43 @@ import org.springframework.security.core.userdetails.UserDetails;
 import java.util.Collection;
 import java.util.Collections;
 
+/**
+ * 인증 사용자 정보 (불변 스냅샷)
+ * 여러 요청 스레드가 캐시된 같은 인스턴스를 공유하므로 엔티티 대신 식별/권한 정보만 복사해 보관한다.
+ * 비밀번호 해시와 TTS 벡터는 담지 않으며, 엔티티가 필요하면 userId로 조회한다.
+ */
 public class CustomUserDetails implements UserDetails {
-    private User user;
+    private final Long userId;
+    private final String email;
+    private final String role;
+    private final boolean active;
+    private final long accountVersion;
 
     public CustomUserDetails(User user) {
-        this.user = user;
+        this(user.getUserId(), user.getEmail(), user.getRole(),
+                !Boolean.FALSE.equals(user.getIsActive()), user.currentAccountVersion());
+    }
+
+    private CustomUserDetails(Long userId, String email, String role, boolean active, long accountVersion) {
+        this.userId = userId;
+        this.email = email;
+        this.role = role;
+        this.active = active;
+        this.accountVersion = accountVersion;
+    }
+
+    /**
+     * 검증된 Access Token의 클레임만으로 경량 principal 생성 (DB 조회 없음)
+     */
+    public static CustomUserDetails fromVerifiedToken(VerifiedToken token) {
+        String role = token.getRoles().isEmpty() ? "USER" : token.getRoles().get(0);
+        if (role.startsWith("ROLE_")) {
+            role = role.substring("ROLE_".length());
+        }
+
+        // 버전이 최신인 토큰만 이 경로로 오므로 발급 이후 비활성화되지 않았음
+        return new CustomUserDetails(token.getUserId(), token.getSubject(), role, true,
+                token.getAccountVersion() != null ? token.getAccountVersion() : 0L);
     }
 
     @Override
@@ -22,12 +54,13 @@ public class CustomUserDetails implements UserDetails {
 
     @Override
     public String getPassword() {
-        return user.getPassword();
+        // 비밀번호 검증은 AuthService에서 엔티티로 수행
+        return null;
     }
 
     @Override
     public String getUsername() {
-        return user.getEmail();
+        return email;
     }
 
     @Override
@@ -51,10 +84,22 @@ public class CustomUserDetails implements UserDetails {
     }
 
     public Long getUserId() {
-        return user.getUserId();
+        return userId;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public String getRole() {
+        return role;
+    }
+
+    public boolean isActive() {
+        return active;
     }
 
-    public User getUser() {
-        return user;
+    public long getAccountVersion() {
+        return accountVersion;
     }
 }
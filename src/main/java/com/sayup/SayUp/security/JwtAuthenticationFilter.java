@@ -23,10 +23,17 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
     private UserDetailsService userDetailsService;
+    private final PrincipalCache principalCache;
 
-    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider, UserDetailsService userDetailsService) {
+    // 무상태 principal 모드: 토큰 클레임만으로 principal 구성
+    private final boolean statelessPrincipal;
+
+    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider, UserDetailsService userDetailsService,
+                                   PrincipalCache principalCache, boolean statelessPrincipal) {
         this.jwtTokenProvider = jwtTokenProvider;
         this.userDetailsService = userDetailsService;
+        this.principalCache = principalCache;
+        this.statelessPrincipal = statelessPrincipal;
     }
 
     private String extractJwtFromRequest(HttpServletRequest request) {
@@ -44,12 +51,17 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             String jwt = extractJwtFromRequest(request);
             logger.info("Extracted JWT: {}", jwt);
 
-            if (jwt != null && jwtTokenProvider.validateToken(jwt)) {
-                String username = jwtTokenProvider.getUsernameFromToken(jwt);
+            // 서명 검증과 클레임 파싱을 한 번에 수행
+            VerifiedToken verifiedToken = jwt != null
+                    ? jwtTokenProvider.verifyAccessToken(jwt).orElse(null)
+                    : null;
+
+            if (verifiedToken != null) {
+                String username = verifiedToken.getSubject();
                 logger.info("Username from JWT: {}", username);
 
-                // Load user details from the service
-                UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+                // Resolve user details (from token claims or the user service)
+                UserDetails userDetails = resolveUserDetails(verifiedToken);
 
                 // Set authentication details
                 UsernamePasswordAuthenticationToken authentication =
@@ -75,4 +87,17 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         // Continue filter chain
         filterChain.doFilter(request, response);
     }
+
+    /**
+     * 무상태 모드이고 토큰의 계정 상태 버전이 최신이면 DB 조회 없이 principal 구성,
+     * 그 외(구버전 토큰, 버전 불일치, 알 수 없는 사용자)에는 사용자 서비스로 조회
+     */
+    private UserDetails resolveUserDetails(VerifiedToken verifiedToken) {
+        if (statelessPrincipal
+                && verifiedToken.hasPrincipalClaims()
+                && principalCache.isCurrentVersion(verifiedToken.getUserId(), verifiedToken.getAccountVersion())) {
+            return CustomUserDetails.fromVerifiedToken(verifiedToken);
+        }
+        return userDetailsService.loadUserByUsername(verifiedToken.getSubject());
+    }
 }
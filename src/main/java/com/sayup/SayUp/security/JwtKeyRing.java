@@ -0,0 +1,208 @@
+package com.sayup.SayUp.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * kid 헤더로 검증 키를 선택하는 JWT 키 링
+ * 모든 키는 시작 시 한 번만 생성되며, 교체 기간에는 여러 키가 동시에 유효하다.
+ *
+ * 키 교체 순서:
+ * 1. 새 키를 keys에 추가하여 모든 노드에 배포 (검증만 가능한 상태)
+ * 2. active-kid를 새 키로 변경하여 배포 (새 토큰은 새 키로 서명)
+ * 3. 기존 토큰의 최대 유효 기간이 지난 후 이전 키 제거
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JwtKeyRing extends SigningKeyResolverAdapter {
+
+    // kid 헤더가 없는 토큰(키 링 도입 이전 발급)과 jwt.secret 키의 ID
+    public static final String DEFAULT_KID = "default";
+
+    private final JwtKeyRingProperties properties;
+
+    @Value("${jwt.secret:}")
+    private String legacySecret;
+
+    private Map<String, SigningKey> keys;
+    private SigningKey activeKey;
+
+    @PostConstruct
+    public void init() {
+        Map<String, SigningKey> loaded = new LinkedHashMap<>();
+        for (JwtKeyRingProperties.KeyEntry entry : properties.getKeys()) {
+            SigningKey key = SigningKey.from(entry);
+            if (loaded.putIfAbsent(key.getKid(), key) != null) {
+                throw new IllegalArgumentException("Duplicate JWT key id: " + key.getKid());
+            }
+        }
+
+        if (properties.isLegacyKeyEnabled() && StringUtils.hasText(legacySecret) && !loaded.containsKey(DEFAULT_KID)) {
+            loaded.put(DEFAULT_KID, SigningKey.hmac(DEFAULT_KID, legacySecret));
+        }
+
+        if (loaded.isEmpty()) {
+            throw new IllegalArgumentException("At least one JWT signing key must be configured");
+        }
+
+        String activeKid = StringUtils.hasText(properties.getActiveKid())
+                ? properties.getActiveKid()
+                : loaded.keySet().iterator().next();
+        SigningKey active = loaded.get(activeKid);
+        if (active == null || !active.canSign()) {
+            throw new IllegalArgumentException("Active JWT key must exist and have a signing key: " + activeKid);
+        }
+
+        this.keys = Collections.unmodifiableMap(loaded);
+        this.activeKey = active;
+        log.info("JWT key ring initialized - keys: {}, active kid: {} ({})",
+                keys.keySet(), active.getKid(), active.getAlgorithm().getValue());
+    }
+
+    /**
+     * 새 토큰 서명에 사용할 키
+     */
+    public SigningKey getActiveKey() {
+        return activeKey;
+    }
+
+    /**
+     * 토큰 헤더의 kid로 검증 키 선택 (kid가 없으면 기본 키)
+     */
+    @Override
+    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+        String kid = StringUtils.hasText(header.getKeyId()) ? header.getKeyId() : DEFAULT_KID;
+        SigningKey key = keys.get(kid);
+        if (key == null) {
+            throw new UnsupportedJwtException("Unknown JWT key id: " + kid);
+        }
+
+        // 키에 지정된 알고리즘 외의 서명은 허용하지 않음
+        if (!key.getAlgorithm().getValue().equals(header.getAlgorithm())) {
+            throw new UnsupportedJwtException("Unexpected JWT algorithm for key " + kid + ": " + header.getAlgorithm());
+        }
+        return key.getVerificationKey();
+    }
+
+    /**
+     * 비대칭 키의 공개 키 목록 (JWKS 형식)
+     * 다른 서비스가 콜백 없이 토큰을 직접 검증할 수 있도록 공개한다.
+     */
+    public Map<String, Object> toJwks() {
+        List<Map<String, Object>> jwks = new ArrayList<>();
+        for (SigningKey key : keys.values()) {
+            if (key.getVerificationKey() instanceof ECPublicKey ecPublicKey) {
+                Map<String, Object> jwk = new LinkedHashMap<>();
+                jwk.put("kty", "EC");
+                jwk.put("crv", "P-256");
+                jwk.put("kid", key.getKid());
+                jwk.put("use", "sig");
+                jwk.put("alg", key.getAlgorithm().getValue());
+                jwk.put("x", encodeCoordinate(ecPublicKey.getW().getAffineX()));
+                jwk.put("y", encodeCoordinate(ecPublicKey.getW().getAffineY()));
+                jwks.add(jwk);
+            }
+        }
+        return Map.of("keys", jwks);
+    }
+
+    private static String encodeCoordinate(BigInteger coordinate) {
+        // P-256 좌표는 부호 없는 32바이트 big-endian
+        byte[] bytes = coordinate.toByteArray();
+        byte[] fixed = new byte[32];
+        int length = Math.min(bytes.length, 32);
+        System.arraycopy(bytes, bytes.length - length, fixed, 32 - length, length);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(fixed);
+    }
+
+    /**
+     * 키 링의 단일 항목 (생성 후 변경되지 않음)
+     */
+    @Getter
+    public static final class SigningKey {
+
+        private final String kid;
+        private final SignatureAlgorithm algorithm;
+        private final Key signingKey;
+        private final Key verificationKey;
+
+        private SigningKey(String kid, SignatureAlgorithm algorithm, Key signingKey, Key verificationKey) {
+            this.kid = kid;
+            this.algorithm = algorithm;
+            this.signingKey = signingKey;
+            this.verificationKey = verificationKey;
+        }
+
+        public boolean canSign() {
+            return signingKey != null;
+        }
+
+        static SigningKey from(JwtKeyRingProperties.KeyEntry entry) {
+            if (!StringUtils.hasText(entry.getKid())) {
+                throw new IllegalArgumentException("JWT key id must not be empty");
+            }
+
+            String algorithm = entry.getAlgorithm() != null ? entry.getAlgorithm().trim().toUpperCase() : "HS256";
+            return switch (algorithm) {
+                case "HS256" -> hmac(entry.getKid(), entry.getSecret());
+                case "ES256" -> ecdsa(entry.getKid(), entry.getPrivateKey(), entry.getPublicKey());
+                default -> throw new IllegalArgumentException("Unsupported JWT algorithm: " + entry.getAlgorithm());
+            };
+        }
+
+        static SigningKey hmac(String kid, String secret) {
+            if (secret == null || secret.length() < 32) {
+                throw new IllegalArgumentException("Secret key must be at least 32 characters long");
+            }
+            Key key = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+            return new SigningKey(kid, SignatureAlgorithm.HS256, key, key);
+        }
+
+        static SigningKey ecdsa(String kid, String privateKeyBase64, String publicKeyBase64) {
+            if (!StringUtils.hasText(publicKeyBase64)) {
+                throw new IllegalArgumentException("ES256 key requires a public key: " + kid);
+            }
+
+            try {
+                KeyFactory keyFactory = KeyFactory.getInstance("EC");
+                PublicKey publicKey = keyFactory.generatePublic(
+                        new X509EncodedKeySpec(Base64.getMimeDecoder().decode(publicKeyBase64)));
+                PrivateKey privateKey = StringUtils.hasText(privateKeyBase64)
+                        ? keyFactory.generatePrivate(new PKCS8EncodedKeySpec(Base64.getMimeDecoder().decode(privateKeyBase64)))
+                        : null;
+                return new SigningKey(kid, SignatureAlgorithm.ES256, privateKey, publicKey);
+            } catch (GeneralSecurityException | IllegalArgumentException e) {
+                throw new IllegalArgumentException("Invalid ES256 key material for kid: " + kid, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.sayup.SayUp.security;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * JWT 서명 키 링 설정 (jwt.key-ring)
+ * 키를 설정하지 않으면 jwt.secret 하나만 사용하는 기존 동작과 같다.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "jwt.key-ring")
+public class JwtKeyRingProperties {
+
+    // 새 토큰 서명에 사용할 키 ID
+    private String activeKid;
+
+    // kid 헤더가 없는 기존 토큰을 jwt.secret으로 검증할지 여부
+    private boolean legacyKeyEnabled = true;
+
+    private List<KeyEntry> keys = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class KeyEntry {
+
+        private String kid;
+
+        // HS256 또는 ES256
+        private String algorithm = "HS256";
+
+        // HS256: 32자 이상의 비밀 키
+        private String secret;
+
+        // ES256: Base64 PKCS#8 DER 개인 키 (검증 전용 키는 생략)
+        private String privateKey;
+
+        // ES256: Base64 X.509 DER 공개 키
+        private String publicKey;
+    }
+}
@@ -1,181 +1,234 @@
 package com.sayup.SayUp.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.sayup.SayUp.entity.user.User;
 import com.sayup.SayUp.service.auth.AuthService;
 import io.jsonwebtoken.*;
-import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Lazy;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
 
 import jakarta.annotation.PostConstruct;
-import java.security.Key;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
 import java.util.Date;
+import java.util.Optional;
+import java.util.UUID;
 
 @Slf4j
 @Component
 public class JwtTokenProvider {
-    
-    private Key secretKey;
+
+    private JwtParser jwtParser;
+    private Cache<String, VerifiedToken> verificationCache;
     private long accessTokenValidityInMilliseconds;
     private long refreshTokenValidityInMilliseconds;
     private final AuthService authService;
+    private final JwtKeyRing jwtKeyRing;
 
-    @Value("${jwt.secret}")
-    private String secretKeyString;
-    
     @Value("${jwt.expiration}")
     private String expirationStr;
-    
+
     @Value("${jwt.refresh-expiration}")
     private String refreshExpirationStr;
 
-    public JwtTokenProvider(@Lazy AuthService authService) {
+    @Value("${jwt.verification-cache.max-size:10000}")
+    private long verificationCacheMaxSize;
+
+    @Value("${jwt.verification-cache.ttl:300000}")
+    private long verificationCacheTtl;
+
+    public JwtTokenProvider(@Lazy AuthService authService, JwtKeyRing jwtKeyRing) {
         this.authService = authService;
+        this.jwtKeyRing = jwtKeyRing;
     }
 
     @PostConstruct
     public void init() {
-        if (secretKeyString.length() < 32) {
-            throw new IllegalArgumentException("Secret key must be at least 32 characters long");
-        }
-        this.secretKey = Keys.hmacShaKeyFor(secretKeyString.getBytes());
-        
+        // JwtParser는 thread-safe 하므로 한 번만 생성하여 재사용 (검증 키는 kid 헤더로 선택)
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKeyResolver(jwtKeyRing)
+                .build();
+
+        // 검증 결과 캐시 (설정된 TTL과 토큰 만료 시각 중 빠른 쪽에 만료)
+        this.verificationCache = Caffeine.newBuilder()
+                .maximumSize(verificationCacheMaxSize)
+                .expireAfter(Expiry.creating((String key, VerifiedToken token) -> Duration.ofMillis(
+                        Math.max(0, Math.min(verificationCacheTtl, token.getExpiresAt() - System.currentTimeMillis())))))
+                .build();
+
         try {
             this.accessTokenValidityInMilliseconds = Long.parseLong(expirationStr.trim());
             this.refreshTokenValidityInMilliseconds = Long.parseLong(refreshExpirationStr.trim());
         } catch (NumberFormatException e) {
-            log.error("Invalid JWT expiration configuration: expiration={}, refresh-expiration={}", 
+            log.error("Invalid JWT expiration configuration: expiration={}, refresh-expiration={}",
                      expirationStr, refreshExpirationStr);
             throw new IllegalArgumentException("JWT expiration values must be valid numbers", e);
         }
-        
-        log.info("JWT Token Provider initialized - Access Token Expiration: {}ms, Refresh Token Expiration: {}ms", 
+
+        log.info("JWT Token Provider initialized - Access Token Expiration: {}ms, Refresh Token Expiration: {}ms",
                 accessTokenValidityInMilliseconds, refreshTokenValidityInMilliseconds);
     }
 
     /**
-     * Access Token 생성
+     * 사용자 정보로 Refresh Token 생성 (사용자 단위 세션 폐기를 위해 userId 포함)
+     * @param familyId 리프레시 토큰 패밀리 ID
+     * @param tokenId 패밀리 저장소에 기록되는 토큰 ID
      */
-    public String createToken(Authentication authentication) {
-        UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-        return createTokenFromEmail(userDetails.getUsername());
-    }
+    public String createRefreshToken(User user, String familyId, String tokenId) {
+        Date now = new Date();
+        Date validity = new Date(now.getTime() + refreshTokenValidityInMilliseconds);
 
-    /**
-     * Refresh Token 생성
-     */
-    public String createRefreshToken(Authentication authentication) {
-        UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-        return createRefreshTokenFromEmail(userDetails.getUsername());
+        return sign(Jwts.builder()
+                .setId(tokenId)
+                .setSubject(user.getEmail())
+                .claim("type", "refresh")
+                .claim("uid", user.getUserId())
+                .claim("fid", familyId)
+                .setIssuedAt(now)
+                .setExpiration(validity));
     }
 
     /**
-     * 이메일로 Access Token 생성
+     * 사용자 정보로 Access Token 생성
+     * userId, 실제 권한, 계정 상태 버전을 클레임에 포함하여 필터가 DB 조회 없이 principal을 구성할 수 있게 한다.
+     * @param familyId 로그아웃 시 함께 폐기할 리프레시 토큰 패밀리 ID
      */
-    public String createTokenFromEmail(String email) {
+    public String createAccessToken(User user, String familyId) {
         Date now = new Date();
         Date validity = new Date(now.getTime() + accessTokenValidityInMilliseconds);
+        String role = user.getRole() != null ? user.getRole() : "USER";
 
-        return Jwts.builder()
-                .setSubject(email)
+        return sign(Jwts.builder()
+                .setId(newTokenId())
+                .setSubject(user.getEmail())
                 .claim("type", "access")
-                .claim("roles", "ROLE_USER")
+                .claim("roles", "ROLE_" + role)
+                .claim("uid", user.getUserId())
+                .claim("ver", user.currentAccountVersion())
+                .claim("fid", familyId)
                 .setIssuedAt(now)
-                .setExpiration(validity)
-                .signWith(secretKey, SignatureAlgorithm.HS256)
+                .setExpiration(validity));
+    }
+
+    /**
+     * 활성 키로 서명 (검증 측에서 키를 선택할 수 있도록 kid 헤더 포함)
+     */
+    private String sign(JwtBuilder builder) {
+        JwtKeyRing.SigningKey activeKey = jwtKeyRing.getActiveKey();
+        return builder
+                .setHeaderParam(JwsHeader.KEY_ID, activeKey.getKid())
+                .signWith(activeKey.getSigningKey(), activeKey.getAlgorithm())
                 .compact();
     }
 
     /**
-     * 이메일로 Refresh Token 생성
+     * 토큰 서명 검증 및 파싱
+     * 같은 토큰은 캐시 TTL 동안 한 번만 검증한다. 블랙리스트 여부는 캐시하지 않는다.
+     *
+     * @throws JwtException 서명이 올바르지 않거나 만료된 경우
      */
-    public String createRefreshTokenFromEmail(String email) {
-        Date now = new Date();
-        Date validity = new Date(now.getTime() + refreshTokenValidityInMilliseconds);
+    public VerifiedToken verify(String token) {
+        if (!StringUtils.hasText(token)) {
+            throw new IllegalArgumentException("JWT token is null or empty");
+        }
 
-        return Jwts.builder()
-                .setSubject(email)
-                .claim("type", "refresh")
-                .setIssuedAt(now)
-                .setExpiration(validity)
-                .signWith(secretKey, SignatureAlgorithm.HS256)
-                .compact();
+        String cacheKey = hashToken(token);
+        VerifiedToken cached = verificationCache.getIfPresent(cacheKey);
+        if (cached != null && !cached.isExpired(System.currentTimeMillis())) {
+            return cached;
+        }
+
+        VerifiedToken verified = VerifiedToken.from(jwtParser.parseClaimsJws(token).getBody(), cacheKey);
+        verificationCache.put(cacheKey, verified);
+        return verified;
     }
 
     /**
-     * Access Token 유효성 검증
+     * Access Token 검증 후 검증된 토큰 반환
      */
-    public boolean validateToken(String token) {
+    public Optional<VerifiedToken> verifyAccessToken(String token) {
         try {
-            if (authService.isTokenBlacklisted(token)) {
-                log.warn("Token is blacklisted");
-                return false;
-            }
-
-            Claims claims = Jwts.parserBuilder()
-                    .setSigningKey(secretKey)
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
+            VerifiedToken verified = verify(token);
 
             // Access Token 타입 확인
-            String tokenType = claims.get("type", String.class);
-            if (!"access".equals(tokenType)) {
-                log.warn("Invalid token type: {}", tokenType);
-                return false;
+            if (!verified.isAccessToken()) {
+                log.warn("Invalid token type: {}", verified.getType());
+                return Optional.empty();
+            }
+
+            if (authService.isTokenRevoked(verified)) {
+                log.warn("Token is blacklisted");
+                return Optional.empty();
             }
 
-            return true;
+            return Optional.of(verified);
         } catch (ExpiredJwtException e) {
             log.warn("Token expired: {}", e.getMessage());
         } catch (MalformedJwtException e) {
             log.warn("Invalid token format: {}", e.getMessage());
         } catch (UnsupportedJwtException e) {
             log.warn("Unsupported token: {}", e.getMessage());
+        } catch (SignatureException e) {
+            log.warn("Invalid token signature: {}", e.getMessage());
         } catch (IllegalArgumentException e) {
             log.warn("Token is null or empty: {}", e.getMessage());
         }
-        return false;
+        return Optional.empty();
     }
 
     /**
-     * Refresh Token 유효성 검증
+     * Access Token 유효성 검증
      */
-    public boolean validateRefreshToken(String token) {
+    public boolean validateToken(String token) {
+        return verifyAccessToken(token).isPresent();
+    }
+
+    /**
+     * Refresh Token 검증 후 검증된 토큰 반환
+     */
+    public Optional<VerifiedToken> verifyRefreshToken(String token) {
         try {
-            Claims claims = Jwts.parserBuilder()
-                    .setSigningKey(secretKey)
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
+            VerifiedToken verified = verify(token);
 
             // Refresh Token 타입 확인
-            String tokenType = claims.get("type", String.class);
-            if (!"refresh".equals(tokenType)) {
-                log.warn("Invalid refresh token type: {}", tokenType);
-                return false;
+            if (!verified.isRefreshToken()) {
+                log.warn("Invalid refresh token type: {}", verified.getType());
+                return Optional.empty();
             }
 
-            return true;
+            if (authService.isTokenRevoked(verified)) {
+                log.warn("Refresh token is revoked");
+                return Optional.empty();
+            }
+
+            return Optional.of(verified);
         } catch (Exception e) {
             log.warn("Invalid refresh token: {}", e.getMessage());
-            return false;
+            return Optional.empty();
         }
     }
 
+    /**
+     * Refresh Token 유효성 검증
+     */
+    public boolean validateRefreshToken(String token) {
+        return verifyRefreshToken(token).isPresent();
+    }
+
     /**
      * JWT 토큰에서 이메일 추출
      */
     public String getUsernameFromToken(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(secretKey)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-        return claims.getSubject();
+        return verify(token).getSubject();
     }
 
     /**
@@ -183,14 +236,8 @@ public class JwtTokenProvider {
      */
     public long getExpirationTime(String token) {
         try {
-            Claims claims = Jwts.parserBuilder()
-                    .setSigningKey(secretKey)
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
-            
-            Date expiration = claims.getExpiration();
-            return expiration != null ? expiration.getTime() : System.currentTimeMillis() + accessTokenValidityInMilliseconds;
+            long expiresAt = verify(token).getExpiresAt();
+            return expiresAt != Long.MAX_VALUE ? expiresAt : System.currentTimeMillis() + accessTokenValidityInMilliseconds;
         } catch (Exception e) {
             return System.currentTimeMillis() + accessTokenValidityInMilliseconds;
         }
@@ -202,4 +249,30 @@ public class JwtTokenProvider {
     public long getExpirationTime() {
         return accessTokenValidityInMilliseconds;
     }
+
+    /**
+     * 짧은 토큰/패밀리 ID 생성: 128bit 난수의 Base64URL 표현 (22자)
+     */
+    public static String newTokenId() {
+        UUID uuid = UUID.randomUUID();
+        byte[] bytes = new byte[16];
+        for (int i = 0; i < 8; i++) {
+            bytes[i] = (byte) (uuid.getMostSignificantBits() >>> (56 - i * 8));
+            bytes[8 + i] = (byte) (uuid.getLeastSignificantBits() >>> (56 - i * 8));
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    /**
+     * 캐시 키로 사용할 토큰 해시 (원본 토큰을 메모리에 보관하지 않기 위함)
+     */
+    private String hashToken(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 algorithm not available", e);
+        }
+    }
 }
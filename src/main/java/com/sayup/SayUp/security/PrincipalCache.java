@@ -0,0 +1,156 @@
+package com.sayup.SayUp.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sayup.SayUp.event.UserAccountChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * 이메일 기준 인증 사용자(CustomUserDetails 불변 스냅샷) 캐시와 사용자별 최신 계정 상태 버전
+ * 계정 상태(비밀번호, 권한, 활성 여부)나 이메일이 변경되면 커밋 이후 로컬 항목을 갱신하고 Redis Pub/Sub으로 다른 노드에도 전파한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PrincipalCache implements MessageListener {
+
+    private static final String INVALIDATION_CHANNEL = "principal:invalidate";
+    // 메시지에서 현재 이메일과 이전 이메일 구분 (이메일에 들어갈 수 없는 문자)
+    private static final String EMAIL_SEPARATOR = "\n";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${security.principal-cache.max-size:10000}")
+    private long maxSize;
+
+    @Value("${security.principal-cache.ttl:300000}")
+    private long ttl;
+
+    @Value("${security.principal-cache.version-max-size:1000000}")
+    private long versionMaxSize;
+
+    @Value("${security.principal-cache.version-ttl:86400000}")
+    private long versionTtl;
+
+    private Cache<String, CustomUserDetails> principals;
+
+    // userId -> 최신 계정 상태 버전 (무상태 principal 모드에서 토큰의 ver 클레임과 비교)
+    // 변경 이벤트(Pub/Sub)로 계속 갱신되므로 principal보다 오래 보관하여 주기적인 DB 조회를 피한다
+    private Cache<Long, Long> accountVersions;
+
+    @PostConstruct
+    public void init() {
+        this.principals = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMillis(ttl))
+                .recordStats()
+                .build();
+        this.accountVersions = Caffeine.newBuilder()
+                .maximumSize(versionMaxSize)
+                .expireAfterWrite(Duration.ofMillis(versionTtl))
+                .build();
+
+        // cache.gets{result=hit|miss}, cache.size 등 Actuator 메트릭 등록
+        CaffeineCacheMetrics.monitor(meterRegistry, principals, "principal");
+        listenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATION_CHANNEL));
+    }
+
+    /**
+     * 캐시 조회, 없으면 loader로 적재 (loader의 예외는 캐시하지 않고 그대로 전달)
+     */
+    public CustomUserDetails get(String email, Function<String, CustomUserDetails> loader) {
+        CustomUserDetails userDetails = principals.get(email, loader);
+        if (userDetails != null && userDetails.getUserId() != null) {
+            // 이벤트로 이미 갱신된 버전은 덮어쓰지 않음
+            accountVersions.asMap().putIfAbsent(userDetails.getUserId(), userDetails.getAccountVersion());
+        }
+        return userDetails;
+    }
+
+    /**
+     * 토큰의 계정 상태 버전이 이 노드가 알고 있는 최신 버전과 같은지 확인
+     * 알 수 없는 사용자는 false를 반환하여 DB 조회로 대체하게 한다.
+     */
+    public boolean isCurrentVersion(Long userId, Long tokenVersion) {
+        Long knownVersion = accountVersions.getIfPresent(userId);
+        return knownVersion != null && knownVersion.equals(tokenVersion);
+    }
+
+    public void invalidate(String email) {
+        if (email != null) {
+            principals.invalidate(email);
+        }
+    }
+
+    /**
+     * 사용자 변경 커밋 이후 무효화 및 다른 노드로 전파
+     * 스냅샷에 담긴 값(계정 상태, 이메일)이 바뀌지 않은 변경(TTS 벡터 저장, 비밀번호 재해시 등)은 무시한다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserAccountChanged(UserAccountChangedEvent event) {
+        boolean emailChanged = !Objects.equals(event.getEmail(), event.getPreviousEmail());
+        if (!event.isAccountStateChanged() && !emailChanged) {
+            return;
+        }
+
+        String previousEmail = emailChanged ? event.getPreviousEmail() : null;
+        apply(event.getUserId(), event.getAccountVersion(), event.getEmail(), previousEmail);
+        try {
+            // 형식: userId:accountVersion:email[\n이전 email]
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, event.getUserId() + ":" + event.getAccountVersion() + ":"
+                    + event.getEmail() + (previousEmail != null ? EMAIL_SEPARATOR + previousEmail : ""));
+        } catch (Exception e) {
+            // 다른 노드는 TTL 만료로 정리됨
+            log.warn("Failed to publish principal invalidation for user {}: {}", event.getUserId(), e.getMessage());
+        }
+        log.debug("Principal cache invalidated for user: {}", event.getUserId());
+    }
+
+    /**
+     * 다른 노드에서 발행한 무효화 이벤트 수신
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split(":", 3);
+        if (parts.length != 3) {
+            log.warn("Ignoring malformed principal invalidation message");
+            return;
+        }
+
+        try {
+            String[] emails = parts[2].split(EMAIL_SEPARATOR, 2);
+            apply(Long.valueOf(parts[0]), Long.parseLong(parts[1]), emails[0], emails.length > 1 ? emails[1] : null);
+        } catch (NumberFormatException e) {
+            log.warn("Ignoring malformed principal invalidation message: {}", e.getMessage());
+        }
+    }
+
+    private void apply(Long userId, long accountVersion, String email, String previousEmail) {
+        invalidate(email);
+        // 이메일이 바뀐 경우 이전 이메일 키도 제거
+        invalidate(previousEmail);
+        if (userId != null) {
+            accountVersions.put(userId, accountVersion);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.sayup.SayUp.security;
+
+import com.sayup.SayUp.service.auth.AuthService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.stereotype.Component;
+
+/**
+ * STOMP CONNECT 프레임의 Authorization 헤더로 JWT 인증
+ * 브라우저는 WebSocket 핸드셰이크에 헤더를 붙일 수 없으므로 HTTP 단계가 아닌 CONNECT 단계에서 인증하며,
+ * 인증되지 않은 세션의 구독/전송은 거부한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StompAuthChannelInterceptor implements ChannelInterceptor {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final AuthService authService;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getCommand() == null) {
+            return message;
+        }
+
+        if (StompCommand.CONNECT.equals(accessor.getCommand())) {
+            accessor.setUser(authenticate(accessor.getFirstNativeHeader("Authorization")));
+        } else if ((StompCommand.SUBSCRIBE.equals(accessor.getCommand()) || StompCommand.SEND.equals(accessor.getCommand()))
+                && accessor.getUser() == null) {
+            throw new BadCredentialsException("인증되지 않은 연결입니다.");
+        }
+        return message;
+    }
+
+    private StompPrincipal authenticate(String authorization) {
+        if (authorization == null || !authorization.startsWith(BEARER_PREFIX)) {
+            throw new BadCredentialsException("인증 토큰이 필요합니다.");
+        }
+
+        VerifiedToken verifiedToken = jwtTokenProvider.verifyAccessToken(authorization.substring(BEARER_PREFIX.length()))
+                .orElseThrow(() -> new BadCredentialsException("유효하지 않은 토큰입니다."));
+
+        // uid 클레임이 없는 이전 토큰은 사용자 조회로 ID 확인
+        Long userId = verifiedToken.getUserId() != null
+                ? verifiedToken.getUserId()
+                : ((CustomUserDetails) authService.loadUserByUsername(verifiedToken.getSubject())).getUserId();
+
+        log.debug("STOMP session authenticated for user: {}", userId);
+        return new StompPrincipal(userId, verifiedToken.getSubject());
+    }
+}
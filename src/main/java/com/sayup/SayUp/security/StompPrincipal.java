@@ -0,0 +1,22 @@
+package com.sayup.SayUp.security;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.security.Principal;
+
+/**
+ * WebSocket(STOMP) 세션 사용자
+ * 사용자 목적지(/user/...)는 principal 이름으로 찾으므로 이름을 userId로 사용한다.
+ */
+@Getter
+@AllArgsConstructor
+public class StompPrincipal implements Principal {
+    private final Long userId;
+    private final String email;
+
+    @Override
+    public String getName() {
+        return String.valueOf(userId);
+    }
+}
@@ -0,0 +1,102 @@
+package com.sayup.SayUp.security;
+
+import io.jsonwebtoken.Claims;
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 서명 검증이 끝난 JWT의 불변 표현
+ * 한 번 파싱한 결과를 재사용하여 같은 토큰의 재검증 비용을 없앤다.
+ */
+@Getter
+public final class VerifiedToken {
+
+    private final String subject;
+    private final String type;
+
+    // 폐기(블랙리스트) 키로 사용하는 토큰 ID
+    private final String tokenId;
+    private final long issuedAt;
+    private final long expiresAt;
+
+    // 리프레시 토큰 패밀리 ID (로그인 세션 단위)
+    private final String familyId;
+    private final List<String> roles;
+
+    // 무상태 principal 구성용 클레임 (구버전 토큰에는 없을 수 있음)
+    private final Long userId;
+    private final Long accountVersion;
+
+    private VerifiedToken(String subject, String type, String tokenId, long issuedAt, long expiresAt,
+                          String familyId, List<String> roles, Long userId, Long accountVersion) {
+        this.subject = subject;
+        this.type = type;
+        this.tokenId = tokenId;
+        this.issuedAt = issuedAt;
+        this.expiresAt = expiresAt;
+        this.familyId = familyId;
+        this.roles = roles;
+        this.userId = userId;
+        this.accountVersion = accountVersion;
+    }
+
+    /**
+     * 검증된 Claims로부터 생성
+     * jti가 없는 구버전 토큰은 fallbackTokenId(토큰 해시)를 토큰 ID로 사용한다.
+     */
+    static VerifiedToken from(Claims claims, String fallbackTokenId) {
+        Date issuedAt = claims.getIssuedAt();
+        Date expiration = claims.getExpiration();
+        return new VerifiedToken(
+                claims.getSubject(),
+                claims.get("type", String.class),
+                claims.getId() != null ? claims.getId() : fallbackTokenId,
+                issuedAt != null ? issuedAt.getTime() : 0L,
+                expiration != null ? expiration.getTime() : Long.MAX_VALUE,
+                claims.get("fid", String.class),
+                parseRoles(claims.get("roles")),
+                claims.get("uid", Long.class),
+                claims.get("ver", Long.class)
+        );
+    }
+
+    public boolean isAccessToken() {
+        return "access".equals(type);
+    }
+
+    public boolean isRefreshToken() {
+        return "refresh".equals(type);
+    }
+
+    public boolean isExpired(long now) {
+        return expiresAt <= now;
+    }
+
+    /**
+     * 무상태 principal 구성에 필요한 클레임을 모두 가지고 있는지 여부
+     */
+    public boolean hasPrincipalClaims() {
+        return userId != null && accountVersion != null;
+    }
+
+    private static List<String> parseRoles(Object rolesClaim) {
+        if (rolesClaim instanceof String roles) {
+            return Arrays.stream(roles.split(","))
+                    .map(String::trim)
+                    .filter(role -> !role.isEmpty())
+                    .toList();
+        }
+        if (rolesClaim instanceof Collection<?> roles) {
+            return roles.stream()
+                    .map(String::valueOf)
+                    .collect(Collectors.toUnmodifiableList());
+        }
+        return Collections.emptyList();
+    }
+}
@@ -2,28 +2,28 @@ package com.sayup.SayUp.service.auth;
 
 import com.sayup.SayUp.dto.auth.AuthRequestDTO;
 import com.sayup.SayUp.dto.auth.AuthResponseDTO;
+import com.sayup.SayUp.entity.user.SocialIdentity;
 import com.sayup.SayUp.entity.user.User;
 import com.sayup.SayUp.kakao.dto.KakaoUserInfoResponseDto;
-import com.sayup.SayUp.kakao.service.KakaoService;
+import com.sayup.SayUp.repository.SocialIdentityRepository;
 import com.sayup.SayUp.repository.UserRepository;
 import com.sayup.SayUp.security.CustomUserDetails;
 import com.sayup.SayUp.security.JwtTokenProvider;
+import com.sayup.SayUp.security.PrincipalCache;
+import com.sayup.SayUp.security.VerifiedToken;
+import io.jsonwebtoken.JwtException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.BadCredentialsException;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
 import java.time.LocalDateTime;
-import java.util.Collections;
 
 @Service
 @RequiredArgsConstructor
@@ -32,14 +32,18 @@ import java.util.Collections;
 public class AuthService implements UserDetailsService {
     
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
     private final JwtTokenProvider jwtTokenProvider;
     private final TokenBlacklistService tokenBlacklistService;
-    private final KakaoService kakaoService;
+    private final SocialIdentityRepository socialIdentityRepository;
+    private final PrincipalCache principalCache;
+    private final RefreshTokenStore refreshTokenStore;
 
     /**
      * 회원가입 로직
+     * 해시 스레드 대기 중에 DB 커넥션을 잡지 않도록 트랜잭션 밖에서 해시하고 저장은 저장소 트랜잭션으로 수행
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public AuthResponseDTO register(AuthRequestDTO authRequestDTO) {
         // 이메일 중복 확인
         if (userRepository.existsByEmail(authRequestDTO.getEmail())) {
@@ -51,7 +55,7 @@ public class AuthService implements UserDetailsService {
         User user = User.builder()
                 .email(authRequestDTO.getEmail())
                 .username(authRequestDTO.getEmail().split("@")[0])
-                .password(passwordEncoder.encode(authRequestDTO.getPassword()))
+                .password(passwordHashingService.encode(authRequestDTO.getPassword()))
                 .role("USER")
                 .createdAt(LocalDateTime.now())
                 .build();
@@ -59,51 +63,38 @@ public class AuthService implements UserDetailsService {
         User savedUser = userRepository.save(user);
         log.info("User registered successfully with email: {}", authRequestDTO.getEmail());
 
-        // 자동 로그인 처리
-        return login(authRequestDTO);
+        // 자동 로그인 처리 (방금 저장한 사용자로 바로 토큰 발급, 비밀번호 재검증 없음)
+        return issueTokens(savedUser);
     }
 
     /**
      * 로그인 로직
+     * 비밀번호 검증/재해시는 트랜잭션 밖에서 수행 (해시 스레드 대기 중 DB 커넥션 점유 방지)
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public AuthResponseDTO login(AuthRequestDTO authRequestDTO) {
         try {
             // 사용자 조회
             User user = userRepository.findByEmail(authRequestDTO.getEmail())
                     .orElseThrow(() -> new BadCredentialsException("이메일 또는 비밀번호가 올바르지 않습니다."));
 
-            // 비밀번호 검증
-            if (!passwordEncoder.matches(authRequestDTO.getPassword(), user.getPassword())) {
+            // 비밀번호 검증 (소셜 전용 계정은 비밀번호 로그인 불가)
+            if (user.getPassword() == null
+                    || !passwordHashingService.matches(authRequestDTO.getPassword(), user.getPassword())) {
                 log.warn("Login failed for email: {} - Invalid password", authRequestDTO.getEmail());
                 throw new BadCredentialsException("이메일 또는 비밀번호가 올바르지 않습니다.");
             }
 
-            // 인증 토큰 생성
-            Authentication authentication = new UsernamePasswordAuthenticationToken(
-                    user.getEmail(),
-                    null,
-                    Collections.singletonList(new SimpleGrantedAuthority(user.getRole()))
-            );
-
-            // JWT 토큰 생성
-            String accessToken = jwtTokenProvider.createToken(authentication);
-            String refreshToken = jwtTokenProvider.createRefreshToken(authentication);
+            // BCrypt strength 설정이 올라간 경우 검증된 비밀번호로 재해시
+            if (passwordHashingService.upgradeEncoding(user.getPassword())) {
+                user.rehashPassword(passwordHashingService.encode(authRequestDTO.getPassword()));
+                userRepository.save(user);
+                log.info("Password rehashed with current strength for user: {}", user.getUserId());
+            }
 
             log.info("Login successful for email: {}", authRequestDTO.getEmail());
 
-            // 응답 생성
-            return AuthResponseDTO.builder()
-                    .accessToken(accessToken)
-                    .tokenType("Bearer")
-                    .expiresIn(jwtTokenProvider.getExpirationTime())
-                    .refreshToken(refreshToken)
-                    .userInfo(AuthResponseDTO.UserInfo.builder()
-                            .userId(user.getUserId())
-                            .email(user.getEmail())
-                            .username(user.getUsername())
-                            .role(user.getRole())
-                            .build())
-                    .build();
+            return issueTokens(user);
 
         } catch (BadCredentialsException e) {
             log.warn("Login failed for email: {} - Invalid credentials", authRequestDTO.getEmail());
@@ -113,45 +104,22 @@ public class AuthService implements UserDetailsService {
 
     /**
      * 카카오 로그인 처리
+     * 카카오 회원번호로 연결된 사용자를 바로 찾고, 처음 로그인하는 경우에만 이메일로 기존 계정을 연결하거나 새로 생성한다.
      */
-    public AuthResponseDTO kakaoLogin(String code) {
+    public AuthResponseDTO kakaoLogin(KakaoUserInfoResponseDto kakaoUserInfo) {
         try {
-            // 카카오 API로 사용자 정보 조회
-            KakaoUserInfoResponseDto kakaoUserInfo = kakaoService.processKakaoLogin(code);
-            
-            // 이메일 검증
-            String email = kakaoUserInfo.getEmail();
-            if (!StringUtils.hasText(email)) {
-                throw new IllegalArgumentException("카카오 계정에서 이메일 정보를 가져올 수 없습니다.");
+            if (kakaoUserInfo == null || kakaoUserInfo.getId() == null) {
+                throw new IllegalArgumentException("카카오 사용자 정보가 올바르지 않습니다.");
             }
 
-            // 이메일 인증 여부 확인 (선택사항)
-            if (!kakaoUserInfo.isEmailVerified()) {
-                log.warn("Kakao user email not verified: {}", email);
-            }
+            String providerUserId = String.valueOf(kakaoUserInfo.getId());
+            User user = socialIdentityRepository
+                    .findUserByProviderAndProviderUserId(SocialIdentity.PROVIDER_KAKAO, providerUserId)
+                    .orElseGet(() -> linkKakaoUser(kakaoUserInfo, providerUserId));
+
+            log.info("Kakao login successful for user: {}", user.getUserId());
 
-            // 사용자 조회 또는 생성
-            User user = userRepository.findByEmail(email)
-                    .orElseGet(() -> createKakaoUser(kakaoUserInfo));
-
-            // JWT 토큰 생성
-            String accessToken = jwtTokenProvider.createTokenFromEmail(email);
-            String refreshToken = jwtTokenProvider.createRefreshTokenFromEmail(email);
-
-            log.info("Kakao login successful for user: {}", email);
-
-            return AuthResponseDTO.builder()
-                    .accessToken(accessToken)
-                    .tokenType("Bearer")
-                    .expiresIn(jwtTokenProvider.getExpirationTime())
-                    .refreshToken(refreshToken)
-                    .userInfo(AuthResponseDTO.UserInfo.builder()
-                            .userId(user.getUserId())
-                            .email(user.getEmail())
-                            .username(user.getUsername())
-                            .role(user.getRole())
-                            .build())
-                    .build();
+            return issueTokens(user);
 
         } catch (Exception e) {
             log.error("Kakao login failed: {}", e.getMessage());
@@ -160,7 +128,33 @@ public class AuthService implements UserDetailsService {
     }
 
     /**
-     * 카카오 사용자 생성
+     * 처음 로그인한 카카오 계정 연결
+     * 같은 이메일의 기존 계정은 카카오에서 인증된 이메일일 때만 연결한다.
+     */
+    private User linkKakaoUser(KakaoUserInfoResponseDto kakaoUserInfo, String providerUserId) {
+        // 이메일 검증
+        String email = kakaoUserInfo.getEmail();
+        if (!StringUtils.hasText(email)) {
+            throw new IllegalArgumentException("카카오 계정에서 이메일 정보를 가져올 수 없습니다.");
+        }
+
+        User user = userRepository.findByEmail(email)
+                .map(existingUser -> {
+                    if (!kakaoUserInfo.isEmailVerified()) {
+                        log.warn("Refusing to link unverified Kakao email to existing account: {}", email);
+                        throw new IllegalArgumentException("인증된 이메일을 사용해주세요.");
+                    }
+                    return existingUser;
+                })
+                .orElseGet(() -> createKakaoUser(kakaoUserInfo));
+
+        socialIdentityRepository.save(new SocialIdentity(SocialIdentity.PROVIDER_KAKAO, providerUserId, user));
+        log.info("Kakao account linked to user: {}", user.getUserId());
+        return user;
+    }
+
+    /**
+     * 카카오 사용자 생성 (소셜 전용 계정은 비밀번호 없음)
      */
     private User createKakaoUser(KakaoUserInfoResponseDto kakaoUserInfo) {
         String email = kakaoUserInfo.getEmail();
@@ -170,7 +164,6 @@ public class AuthService implements UserDetailsService {
         User newUser = User.builder()
                 .email(email)
                 .username(username)
-                .password(passwordEncoder.encode(generateSecureRandomPassword()))
                 .role("USER")
                 .createdAt(LocalDateTime.now())
                 .build();
@@ -182,24 +175,81 @@ public class AuthService implements UserDetailsService {
 
     /**
      * 토큰 갱신
+     * 리프레시 토큰은 한 번만 사용할 수 있으며, 이미 교체된 토큰이 다시 사용되면 패밀리 전체를 폐기한다.
      */
     public AuthResponseDTO refreshToken(String refreshToken) {
-        if (!jwtTokenProvider.validateRefreshToken(refreshToken)) {
-            throw new IllegalArgumentException("유효하지 않은 리프레시 토큰입니다.");
+        VerifiedToken verifiedToken = jwtTokenProvider.verifyRefreshToken(refreshToken)
+                .orElseThrow(() -> new IllegalArgumentException("유효하지 않은 리프레시 토큰입니다."));
+
+        String familyId = verifiedToken.getFamilyId();
+        String newTokenId = JwtTokenProvider.newTokenId();
+        if (familyId != null) {
+            RefreshTokenStore.RotationResult result =
+                    refreshTokenStore.rotate(familyId, verifiedToken.getTokenId(), newTokenId);
+            if (result == RefreshTokenStore.RotationResult.REUSE_DETECTED) {
+                // 탈취 가능성 - 같은 패밀리로 발급된 Access Token도 즉시 거부
+                tokenBlacklistService.revokeFamily(familyId);
+            }
+            if (result != RefreshTokenStore.RotationResult.ROTATED) {
+                log.warn("Refresh token rejected: {}", result);
+                throw new IllegalArgumentException("유효하지 않은 리프레시 토큰입니다.");
+            }
         }
 
-        String email = jwtTokenProvider.getUsernameFromToken(refreshToken);
+        String email = verifiedToken.getSubject();
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found"));
 
-        String newAccessToken = jwtTokenProvider.createTokenFromEmail(email);
-        String newRefreshToken = jwtTokenProvider.createRefreshTokenFromEmail(email);
+        String newRefreshToken;
+        if (familyId != null) {
+            newRefreshToken = jwtTokenProvider.createRefreshToken(user, familyId, newTokenId);
+        } else {
+            // 패밀리 저장소 도입 이전에 발급된 토큰: 재사용할 수 없도록 폐기 후 새 패밀리 시작
+            tokenBlacklistService.addToBlacklist(verifiedToken.getTokenId(), verifiedToken.getExpiresAt());
+            familyId = JwtTokenProvider.newTokenId();
+            newRefreshToken = issueRefreshToken(user, familyId);
+        }
+        String newAccessToken = jwtTokenProvider.createAccessToken(user, familyId);
 
+        return buildAuthResponse(user, newAccessToken, newRefreshToken);
+    }
+
+    /**
+     * 로그아웃
+     */
+    public void logout(String token) {
+        if (!StringUtils.hasText(token)) {
+            throw new IllegalArgumentException("토큰이 비어있습니다.");
+        }
+
+        VerifiedToken verifiedToken = jwtTokenProvider.verifyAccessToken(token)
+                .orElseThrow(() -> new IllegalArgumentException("유효하지 않은 토큰입니다."));
+
+        tokenBlacklistService.addToBlacklist(verifiedToken.getTokenId(), verifiedToken.getExpiresAt());
+
+        // 같은 로그인 세션의 리프레시 토큰과 다른 Access Token도 함께 폐기
+        refreshTokenStore.revoke(verifiedToken.getFamilyId());
+        tokenBlacklistService.revokeFamily(verifiedToken.getFamilyId());
+        
+        log.info("User logged out successfully");
+    }
+
+    /**
+     * 새 로그인 세션의 토큰 발급 (새 리프레시 토큰 패밀리 시작)
+     */
+    private AuthResponseDTO issueTokens(User user) {
+        String familyId = JwtTokenProvider.newTokenId();
+        String accessToken = jwtTokenProvider.createAccessToken(user, familyId);
+        String refreshToken = issueRefreshToken(user, familyId);
+        return buildAuthResponse(user, accessToken, refreshToken);
+    }
+
+    private AuthResponseDTO buildAuthResponse(User user, String accessToken, String refreshToken) {
         return AuthResponseDTO.builder()
-                .accessToken(newAccessToken)
+                .accessToken(accessToken)
                 .tokenType("Bearer")
                 .expiresIn(jwtTokenProvider.getExpirationTime())
-                .refreshToken(newRefreshToken)
+                .refreshToken(refreshToken)
                 .userInfo(AuthResponseDTO.UserInfo.builder()
                         .userId(user.getUserId())
                         .email(user.getEmail())
@@ -210,55 +260,50 @@ public class AuthService implements UserDetailsService {
     }
 
     /**
-     * 로그아웃
+     * 리프레시 토큰 발급 및 패밀리 등록
      */
-    public void logout(String token) {
-        if (!StringUtils.hasText(token)) {
-            throw new IllegalArgumentException("토큰이 비어있습니다.");
-        }
-
-        if (!jwtTokenProvider.validateToken(token)) {
-            throw new IllegalArgumentException("유효하지 않은 토큰입니다.");
-        }
-
-        long expirationTime = jwtTokenProvider.getExpirationTime(token);
-        tokenBlacklistService.addToBlacklist(token, expirationTime);
-        
-        log.info("User logged out successfully");
+    private String issueRefreshToken(User user, String familyId) {
+        String tokenId = JwtTokenProvider.newTokenId();
+        refreshTokenStore.issue(familyId, tokenId, user.getUserId());
+        return jwtTokenProvider.createRefreshToken(user, familyId, tokenId);
     }
 
     /**
      * 토큰 블랙리스트 확인
+     * 서명이 올바르지 않거나 만료된 토큰은 사용할 수 없으므로 폐기된 것으로 본다.
      */
     public boolean isTokenBlacklisted(String token) {
         if (!StringUtils.hasText(token)) {
             return false;
         }
-        return tokenBlacklistService.isBlacklisted(token);
+        try {
+            return isTokenRevoked(jwtTokenProvider.verify(token));
+        } catch (JwtException | IllegalArgumentException e) {
+            log.debug("Treating unverifiable token as blacklisted: {}", e.getMessage());
+            return true;
+        }
     }
 
     /**
-     * Spring Security UserDetailsService 구현
+     * 검증된 토큰의 폐기 여부 확인 (토큰 ID 블랙리스트, 로그인 세션(패밀리) 폐기, 사용자 단위 세션 폐기)
      */
-    @Override
-    @Transactional(readOnly = true)
-    public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + email));
-
-        return new CustomUserDetails(user);
+    public boolean isTokenRevoked(VerifiedToken token) {
+        return tokenBlacklistService.isRevoked(token.getTokenId(), token.getUserId(), token.getFamilyId(),
+                token.getIssuedAt());
     }
 
     /**
-     * 보안을 위한 랜덤 비밀번호 생성
+     * Spring Security UserDetailsService 구현
+     * 캐시 적중 시에는 트랜잭션(DB 커넥션)을 시작하지 않도록 SUPPORTS 전파 사용
      */
-    private String generateSecureRandomPassword() {
-        String chars = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789!@#$%^&*";
-        StringBuilder sb = new StringBuilder();
-        java.util.Random random = new java.util.Random();
-        for (int i = 0; i < 32; i++) {
-            sb.append(chars.charAt(random.nextInt(chars.length())));
-        }
-        return sb.toString();
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
+        return principalCache.get(email, key -> {
+            User user = userRepository.findByEmail(key)
+                    .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + key));
+
+            return new CustomUserDetails(user);
+        });
     }
 }
@@ -0,0 +1,88 @@
+package com.sayup.SayUp.service.auth;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * 리프레시 토큰 패밀리 저장소
+ * 로그인 한 번으로 시작되는 토큰 계열(패밀리)마다 현재 유효한 토큰 ID만 기록하며,
+ * 발급/교체/폐기는 각각 Lua 스크립트 한 번(Redis 왕복 1회)으로 원자적으로 처리한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RefreshTokenStore {
+
+    private static final String FAMILY_PREFIX = "refresh:family:";
+
+    private static final RedisScript<Long> ISSUE_SCRIPT = script("redis/refresh-issue.lua");
+    private static final RedisScript<Long> ROTATE_SCRIPT = script("redis/refresh-rotate.lua");
+    private static final RedisScript<Long> REVOKE_SCRIPT = script("redis/refresh-revoke.lua");
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Value("${jwt.refresh-expiration:604800000}")
+    private long refreshTokenLifetime;
+
+    public enum RotationResult {
+        ROTATED,
+        UNKNOWN_FAMILY,
+        REVOKED,
+        REUSE_DETECTED
+    }
+
+    /**
+     * 새 패밀리 등록 (로그인 시)
+     */
+    public void issue(String familyId, String tokenId, Long userId) {
+        redisTemplate.execute(ISSUE_SCRIPT, List.of(FAMILY_PREFIX + familyId),
+                tokenId, String.valueOf(userId), String.valueOf(refreshTokenLifetime));
+    }
+
+    /**
+     * 제시된 토큰이 패밀리의 현재 토큰이면 새 토큰 ID로 교체
+     * 이미 교체된 토큰이 다시 제시되면 패밀리 전체를 폐기한다.
+     */
+    public RotationResult rotate(String familyId, String presentedTokenId, String newTokenId) {
+        Long result = redisTemplate.execute(ROTATE_SCRIPT, List.of(FAMILY_PREFIX + familyId),
+                presentedTokenId, newTokenId, String.valueOf(refreshTokenLifetime));
+
+        if (result == null || result == 0) {
+            return RotationResult.UNKNOWN_FAMILY;
+        }
+        if (result == -1) {
+            return RotationResult.REVOKED;
+        }
+        if (result == -2) {
+            log.warn("Refresh token reuse detected, family revoked: {}", familyId);
+            return RotationResult.REUSE_DETECTED;
+        }
+        return RotationResult.ROTATED;
+    }
+
+    /**
+     * 패밀리 폐기 (로그아웃 시)
+     */
+    public boolean revoke(String familyId) {
+        if (familyId == null) {
+            return false;
+        }
+        Long result = redisTemplate.execute(REVOKE_SCRIPT, List.of(FAMILY_PREFIX + familyId));
+        return result != null && result == 1;
+    }
+
+    private static RedisScript<Long> script(String path) {
+        DefaultRedisScript<Long> script = new DefaultRedisScript<>();
+        script.setLocation(new ClassPathResource(path));
+        script.setResultType(Long.class);
+        return script;
+    }
+}
@@ -1,75 +1,300 @@
 package com.sayup.SayUp.service.auth;
 
+import com.sayup.SayUp.event.UserAccountChangedEvent;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
-public class TokenBlacklistService {
-    
+public class TokenBlacklistService implements MessageListener {
+
     private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
     private static final String BLACKLIST_PREFIX = "blacklist:";
-    
+    private static final String EPOCH_PREFIX = "revoke:epoch:";
+    private static final String FAMILY_PREFIX = "revoke:family:";
+    private static final String REVOCATION_CHANNEL = "blacklist:events";
+
+    // 로컬 필터에서 사용자 epoch/패밀리 항목을 토큰 ID와 구분하기 위한 접두사 (토큰 ID에는 ':'이 없음)
+    private static final String USER_ENTRY_PREFIX = "u:";
+    private static final String FAMILY_ENTRY_PREFIX = "f:";
+
+    // epoch 키는 그 이전에 발급된 모든 토큰이 만료될 때까지만 유지
+    @Value("${jwt.refresh-expiration:604800000}")
+    private long maxTokenLifetime;
+
+    // 패밀리 폐기 키는 그 패밀리의 Access Token이 모두 만료될 때까지만 유지 (리프레시 토큰은 패밀리 저장소에서 거부)
+    @Value("${jwt.expiration:86400000}")
+    private long accessTokenLifetime;
+
+    @Value("${jwt.revocation-filter.expected-insertions:100000}")
+    private int expectedInsertions;
+
+    @Value("${jwt.revocation-filter.false-positive-rate:0.01}")
+    private double falsePositiveRate;
+
+    // 로컬 폐기 필터: "확실히 폐기되지 않음"을 Redis 조회 없이 판단 (토큰 ID, 사용자 epoch 항목)
+    private volatile RevocationBloomFilter revocationFilter;
+
+    // 재구성 중에 추가된 항목이 새 필터에서 누락되지 않도록 함께 기록
+    private volatile RevocationBloomFilter rebuildingFilter;
+
+    // Redis로부터 한 번이라도 재구성되기 전에는 필터를 신뢰하지 않음
+    private volatile boolean filterReady = false;
+
+    // 필터 교체와 항목 추가 간의 경합 방지 (조회는 잠금 없이 수행)
+    private final Object filterLock = new Object();
+
+    @PostConstruct
+    public void init() {
+        this.revocationFilter = new RevocationBloomFilter(expectedInsertions, falsePositiveRate);
+        listenerContainer.addMessageListener(this, new ChannelTopic(REVOCATION_CHANNEL));
+    }
+
+    /**
+     * 애플리케이션 시작 시 Redis의 블랙리스트로 로컬 필터 구성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuildFilter();
+    }
+
+    /**
+     * 만료된 항목 정리를 위한 주기적 필터 재구성
+     */
+    @Scheduled(fixedDelayString = "${jwt.revocation-filter.rebuild-interval:3600000}",
+            initialDelayString = "${jwt.revocation-filter.rebuild-interval:3600000}")
+    public synchronized void rebuildFilter() {
+        RevocationBloomFilter freshFilter = new RevocationBloomFilter(expectedInsertions, falsePositiveRate);
+        synchronized (filterLock) {
+            this.rebuildingFilter = freshFilter;
+        }
+
+        try {
+            int count = scanInto(freshFilter, BLACKLIST_PREFIX, "")
+                    + scanInto(freshFilter, EPOCH_PREFIX, USER_ENTRY_PREFIX)
+                    + scanInto(freshFilter, FAMILY_PREFIX, FAMILY_ENTRY_PREFIX);
+            synchronized (filterLock) {
+                this.revocationFilter = freshFilter;
+                this.filterReady = true;
+            }
+            log.info("Revocation filter rebuilt with {} entries", count);
+        } catch (Exception e) {
+            // 재구성 실패 시 기존 필터 유지 (최초 구성 전이라면 모든 조회를 Redis로 보냄)
+            log.warn("Failed to rebuild revocation filter from Redis: {}", e.getMessage());
+        } finally {
+            synchronized (filterLock) {
+                this.rebuildingFilter = null;
+            }
+        }
+    }
+
     /**
      * 토큰을 블랙리스트에 추가
-     * @param token 무효화할 토큰
+     * @param tokenId 무효화할 토큰 ID (jti)
      * @param expirationTime 토큰 만료 시간 (밀리초)
      */
-    public void addToBlacklist(String token, long expirationTime) {
-        if (token == null || token.trim().isEmpty()) {
-            log.warn("Attempted to blacklist null or empty token");
+    public void addToBlacklist(String tokenId, long expirationTime) {
+        if (tokenId == null || tokenId.trim().isEmpty()) {
+            log.warn("Attempted to blacklist null or empty token id");
             return;
         }
-        
-        String key = BLACKLIST_PREFIX + token;
+
+        String key = BLACKLIST_PREFIX + tokenId;
         long ttl = calculateTTL(expirationTime);
-        
-        redisTemplate.opsForValue().set(key, "blacklisted", ttl, TimeUnit.MILLISECONDS);
+
+        redisTemplate.opsForValue().set(key, "1", ttl, TimeUnit.MILLISECONDS);
+
+        // 로컬 필터 반영 후 다른 노드에 전파
+        putLocal(tokenId);
+        redisTemplate.convertAndSend(REVOCATION_CHANNEL, tokenId);
         log.info("Token added to blacklist with TTL: {} ms", ttl);
     }
-    
+
+    /**
+     * 사용자의 모든 세션 무효화 (비밀번호 변경, 비활성화 등)
+     * 현재 시각을 epoch로 기록하며, 이 시각(초) 이전 또는 같은 초에 발급된 토큰은 모두 폐기된 것으로 본다.
+     * @param userId 사용자 ID
+     */
+    public void revokeAllSessions(Long userId) {
+        if (userId == null) {
+            return;
+        }
+
+        // JWT의 iat는 초 단위이므로 epoch도 초 단위로 기록
+        long epochSeconds = System.currentTimeMillis() / 1000;
+        redisTemplate.opsForValue().set(EPOCH_PREFIX + userId, String.valueOf(epochSeconds),
+                maxTokenLifetime, TimeUnit.MILLISECONDS);
+
+        putLocal(USER_ENTRY_PREFIX + userId);
+        redisTemplate.convertAndSend(REVOCATION_CHANNEL, USER_ENTRY_PREFIX + userId);
+        log.info("All sessions revoked for user: {}", userId);
+    }
+
+    /**
+     * 로그인 세션(토큰 패밀리) 전체 폐기 (리프레시 토큰 재사용 감지, 로그아웃)
+     * 같은 패밀리로 발급된 Access Token도 만료 전에 거부된다.
+     * @param familyId 토큰 패밀리 ID (fid)
+     */
+    public void revokeFamily(String familyId) {
+        if (familyId == null || familyId.trim().isEmpty()) {
+            return;
+        }
+
+        redisTemplate.opsForValue().set(FAMILY_PREFIX + familyId, "1", accessTokenLifetime, TimeUnit.MILLISECONDS);
+
+        putLocal(FAMILY_ENTRY_PREFIX + familyId);
+        redisTemplate.convertAndSend(REVOCATION_CHANNEL, FAMILY_ENTRY_PREFIX + familyId);
+        log.info("Token family revoked: {}", familyId);
+    }
+
     /**
-     * 토큰이 블랙리스트에 있는지 확인
-     * @param token 확인할 토큰
-     * @return 블랙리스트 여부
+     * 토큰 폐기 여부 확인 (토큰 ID 블랙리스트 + 사용자 epoch + 토큰 패밀리)
+     * 로컬 필터가 "폐기 가능성 있음"으로 판단한 경우에만 Redis를 조회하며,
+     * 관련 키는 MGET 한 번으로 함께 조회한다.
+     * @param tokenId 토큰 ID (jti)
+     * @param userId 토큰의 사용자 ID (없으면 epoch 확인 생략)
+     * @param familyId 토큰 패밀리 ID (없으면 패밀리 확인 생략)
+     * @param issuedAt 토큰 발급 시각 (밀리초)
+     * @return 폐기 여부
      */
-    public boolean isBlacklisted(String token) {
-        if (token == null || token.trim().isEmpty()) {
-            log.warn("Attempted to check null or empty token for blacklist");
+    public boolean isRevoked(String tokenId, Long userId, String familyId, long issuedAt) {
+        if (tokenId == null || tokenId.trim().isEmpty()) {
+            log.warn("Attempted to check null or empty token id for revocation");
+            return false;
+        }
+
+        if (filterReady && !revocationFilter.mightContain(tokenId)
+                && (userId == null || !revocationFilter.mightContain(USER_ENTRY_PREFIX + userId))
+                && (familyId == null || !revocationFilter.mightContain(FAMILY_ENTRY_PREFIX + familyId))) {
+            return false;
+        }
+
+        // 순서: 토큰 ID, 패밀리, 사용자 epoch
+        List<String> keys = new ArrayList<>(3);
+        keys.add(BLACKLIST_PREFIX + tokenId);
+        keys.add(FAMILY_PREFIX + (familyId != null ? familyId : ""));
+        if (userId != null) {
+            keys.add(EPOCH_PREFIX + userId);
+        }
+
+        List<String> values = redisTemplate.opsForValue().multiGet(keys);
+        if (values == null) {
             return false;
         }
-        
-        String key = BLACKLIST_PREFIX + token;
-        Boolean exists = redisTemplate.hasKey(key);
-        
-        if (Boolean.TRUE.equals(exists)) {
-            log.debug("Token found in blacklist: {}", token);
+
+        if (values.get(0) != null) {
+            log.debug("Token found in blacklist: {}", tokenId);
             return true;
         }
-        
+
+        if (familyId != null && values.get(1) != null) {
+            log.debug("Token family revoked: {}", familyId);
+            return true;
+        }
+
+        if (values.size() > 2 && values.get(2) != null) {
+            try {
+                // iat는 초 단위이므로 폐기와 같은 초에 발급된 토큰도 폐기 이전 토큰일 수 있어 폐기로 본다
+                boolean revoked = issuedAt / 1000 <= Long.parseLong(values.get(2));
+                if (revoked) {
+                    log.debug("Token issued before revocation epoch of user: {}", userId);
+                }
+                return revoked;
+            } catch (NumberFormatException e) {
+                log.warn("Invalid revocation epoch for user {}: {}", userId, values.get(2));
+            }
+        }
+
         return false;
     }
-    
+
     /**
      * 토큰을 블랙리스트에서 제거 (필요시 사용)
-     * @param token 제거할 토큰
+     * 로컬 필터의 항목은 다음 재구성 시 정리된다.
+     * @param tokenId 제거할 토큰 ID
      */
-    public void removeFromBlacklist(String token) {
-        if (token == null || token.trim().isEmpty()) {
-            log.warn("Attempted to remove null or empty token from blacklist");
+    public void removeFromBlacklist(String tokenId) {
+        if (tokenId == null || tokenId.trim().isEmpty()) {
+            log.warn("Attempted to remove null or empty token id from blacklist");
             return;
         }
-        
-        String key = BLACKLIST_PREFIX + token;
+
+        String key = BLACKLIST_PREFIX + tokenId;
         redisTemplate.delete(key);
-        log.info("Token removed from blacklist: {}", token);
+        log.info("Token removed from blacklist: {}", tokenId);
     }
-    
+
+    /**
+     * 비밀번호, 권한, 활성 여부 변경 커밋 이후 해당 사용자의 기존 세션 무효화
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserAccountChanged(UserAccountChangedEvent event) {
+        if (event.isAccountStateChanged()) {
+            revokeAllSessions(event.getUserId());
+        }
+    }
+
+    /**
+     * 다른 노드에서 발행한 폐기 이벤트 수신
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String entry = new String(message.getBody(), StandardCharsets.UTF_8);
+        if (!entry.isEmpty()) {
+            putLocal(entry);
+        }
+    }
+
+    private void putLocal(String entry) {
+        synchronized (filterLock) {
+            revocationFilter.put(entry);
+            if (rebuildingFilter != null) {
+                rebuildingFilter.put(entry);
+            }
+        }
+    }
+
+    /**
+     * keyPrefix로 시작하는 Redis 키를 필터에 추가 (키 접두사를 entryPrefix로 치환)
+     */
+    private int scanInto(RevocationBloomFilter filter, String keyPrefix, String entryPrefix) {
+        ScanOptions options = ScanOptions.scanOptions()
+                .match(keyPrefix + "*")
+                .count(1000)
+                .build();
+
+        int count = 0;
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                filter.put(entryPrefix + cursor.next().substring(keyPrefix.length()));
+                count++;
+            }
+        }
+        return count;
+    }
+
     /**
      * TTL 계산 (토큰 만료 시간까지 남은 시간)
      * @param expirationTime 토큰 만료 시간
@@ -78,7 +303,7 @@ public class TokenBlacklistService {
     private long calculateTTL(long expirationTime) {
         long currentTime = System.currentTimeMillis();
         long ttl = expirationTime - currentTime;
-        
+
         // 최소 1분, 최대 24시간으로 제한
         return Math.max(60000, Math.min(ttl, 86400000));
     }
@@ -0,0 +1,89 @@
+package com.sayup.SayUp.service.chat;
+
+import com.sayup.SayUp.dto.CursorPage;
+import com.sayup.SayUp.dto.chat.ChatMessageDTO;
+import com.sayup.SayUp.repository.ChatRoomRepository;
+import com.sayup.SayUp.repository.MessagesRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.TreeMap;
+
+/**
+ * 채팅방 메시지 기록 조회 (순번 역순 키셋 페이지)
+ * 최근 메시지 버퍼로 답할 수 있으면 DB를 조회하지 않고 (이 노드 저널에 저장 대기 중인 메시지가 없을 때만), 그보다 이전 메시지는 (room_id, seq) 인덱스로 페이지 크기만큼만 읽는다.
+ * 버퍼로 답하는 조회가 커넥션을 잡지 않도록 클래스 트랜잭션을 두지 않으며, DB 조회는 각 리포지토리 메서드의 읽기 전용 트랜잭션으로 수행한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChatHistoryService {
+
+    private static final int DEFAULT_PAGE_SIZE = 30;
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final ChatRoomRepository chatRoomRepository;
+    private final MessagesRepository messagesRepository;
+    private final RecentMessageBuffer recentMessageBuffer;
+    private final MessageJournal messageJournal;
+
+    /**
+     * 메시지 조회 (cursor가 비어 있으면 마지막 메시지부터, nextCursor로 이전 메시지를 이어서 조회)
+     */
+    public CursorPage<ChatMessageDTO> getMessages(Long roomId, Long userId, String cursor, int size) {
+        if (roomId == null || userId == null) {
+            throw new IllegalArgumentException("채팅방 ID와 사용자 ID는 null일 수 없습니다.");
+        }
+
+        long beforeSeq = decodeCursor(cursor);
+        int pageSize = size <= 0 ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
+
+        // 저장 대기 중인 메시지가 있으면 DB 조회 결과에 빠져 있으므로 버퍼를 그대로 믿지 않음
+        boolean unflushed = messageJournal.hasUnflushed(roomId);
+        RecentMessageBuffer.Ring ring = recentMessageBuffer.ring(roomId);
+        if (!ring.isLoaded()) {
+            // 이 노드에서 처음 조회하는 채팅방 - 참여자와 마지막 메시지를 한 번만 읽어 버퍼를 채움
+            ring.load(new HashSet<>(chatRoomRepository.findParticipantIds(roomId)),
+                    messagesRepository.findRoomPage(roomId, Long.MAX_VALUE, PageRequest.of(0, recentMessageBuffer.getCapacity())),
+                    !unflushed);
+        }
+
+        if (!ring.hasParticipant(userId)) {
+            log.warn("User {} attempted to read messages of chat room {} without permission", userId, roomId);
+            throw new IllegalArgumentException("해당 채팅방에 접근할 권한이 없습니다.");
+        }
+
+        List<ChatMessageDTO> rows = unflushed ? null : ring.page(beforeSeq, pageSize + 1);
+        if (rows == null) {
+            // 아직 DB에 없는 최근 메시지(저장 대기 중, 다른 노드에서 전달받은 것)는 버퍼에서 합침
+            rows = merge(messagesRepository.findRoomPage(roomId, beforeSeq, PageRequest.of(0, pageSize + 1)),
+                    ring.latest(beforeSeq, pageSize + 1), pageSize + 1);
+        }
+        return CursorPage.of(rows, pageSize, message -> String.valueOf(message.getSeq()));
+    }
+
+    // 순번 역순으로 합친 뒤 최대 limit건 (같은 순번은 DB 행 사용)
+    private static List<ChatMessageDTO> merge(List<ChatMessageDTO> stored, List<ChatMessageDTO> buffered, int limit) {
+        TreeMap<Long, ChatMessageDTO> bySeq = new TreeMap<>(Comparator.reverseOrder());
+        buffered.forEach(message -> bySeq.put(message.getSeq(), message));
+        stored.forEach(message -> bySeq.put(message.getSeq(), message));
+        return bySeq.values().stream().limit(limit).toList();
+    }
+
+    // 커서는 마지막으로 받은 메시지의 순번
+    private static long decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return Long.MAX_VALUE;
+        }
+        try {
+            return Long.parseLong(cursor);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+}
@@ -0,0 +1,217 @@
+package com.sayup.SayUp.service.chat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sayup.SayUp.dto.chat.ChatAckDTO;
+import com.sayup.SayUp.dto.chat.ChatMessageDTO;
+import com.sayup.SayUp.repository.MessagesRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.SubscriptionListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 채팅 메시지 처리 (순번 부여, 저장, 전달, 전송 확인)
+ * WebSocket 스레드는 작업을 큐에 넣기만 하고, 채팅방 ID로 나뉜 전용 스레드가 순서대로 처리한다.
+ * 저장은 MessageJournal에 넘기며, 저널에 기록된 뒤 전송 확인과 전달을 수행한다.
+ * 순번은 Redis에서 채팅방마다 원자적으로 부여하며 (키가 없으면 DB와 저널의 마지막 순번에서 이어서), 메시지는 Redis Pub/Sub으로 모든 노드에 전달되어
+ * 각 노드가 자기에게 연결된 구독자(/topic/chat-rooms/{roomId})에게 보낸다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatMessageSink implements MessageListener, SubscriptionListener {
+
+    private static final String CHANNEL = "chat:messages";
+    private static final String SEQ_KEY_PREFIX = "chat:room:seq:";
+    private static final String ROOM_DESTINATION = "/topic/chat-rooms/";
+    private static final String ACK_DESTINATION = "/queue/chat-acks";
+    private static final RedisScript<Long> SEQ_SCRIPT = script("redis/chat-seq-next.lua");
+
+    private final MessagesRepository messagesRepository;
+    private final MessageJournal messageJournal;
+    private final RecentMessageBuffer recentMessageBuffer;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${chat.sink.threads:4}")
+    private int threads;
+
+    @Value("${chat.sink.queue-capacity:10000}")
+    private int queueCapacity;
+
+    // 같은 채팅방의 메시지는 항상 같은 스레드에서 처리되어 순서가 유지됨
+    private ExecutorService[] workers;
+
+    @PostConstruct
+    public void init() {
+        workers = new ExecutorService[Math.max(threads, 1)];
+        for (int i = 0; i < workers.length; i++) {
+            String name = "chat-sink-" + i;
+            workers[i] = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                    new ArrayBlockingQueue<>(queueCapacity), runnable -> new Thread(runnable, name));
+        }
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        for (ExecutorService worker : workers) {
+            worker.shutdown();
+        }
+        for (ExecutorService worker : workers) {
+            worker.awaitTermination(5, TimeUnit.SECONDS);
+        }
+    }
+
+    /**
+     * 메시지 처리 예약 (큐가 가득 차면 false)
+     */
+    public boolean submit(Long roomId, Long senderId, String clientMessageId, String content) {
+        try {
+            workers[Math.floorMod(roomId.hashCode(), workers.length)]
+                    .execute(() -> process(roomId, senderId, clientMessageId, content));
+            return true;
+        } catch (RejectedExecutionException e) {
+            log.warn("Chat message queue full for room {}", roomId);
+            return false;
+        }
+    }
+
+    private void process(Long roomId, Long senderId, String clientMessageId, String content) {
+        ChatMessageDTO message;
+        try {
+            Long seq = nextSeq(roomId);
+            message = new ChatMessageDTO(roomId, seq, senderId, content, LocalDateTime.now());
+        } catch (Exception e) {
+            log.error("Failed to assign chat message sequence for room {}: {}", roomId, e.getMessage());
+            ack(senderId, ChatAckDTO.failure(roomId, clientMessageId, "메시지를 전송하지 못했습니다."));
+            return;
+        }
+
+        // 콜백은 저널 스레드에서 큐 순서대로 호출되므로 채팅방 내 순서가 유지됨
+        boolean accepted = messageJournal.append(message,
+                () -> {
+                    ack(senderId, ChatAckDTO.success(roomId, clientMessageId, message.getSeq()));
+                    publish(message);
+                },
+                () -> ack(senderId, ChatAckDTO.failure(roomId, clientMessageId, "메시지를 전송하지 못했습니다.")));
+        if (!accepted) {
+            // 저장이 밀려 있음 - 부여한 순번은 비어 있는 채로 남음
+            log.warn("Chat message journal full, rejecting message for room {}", roomId);
+            ack(senderId, ChatAckDTO.failure(roomId, clientMessageId, "잠시 후 다시 시도해주세요."));
+        }
+    }
+
+    private void publish(ChatMessageDTO message) {
+        try {
+            // 자기 노드도 이 메시지를 받아 구독자에게 전달
+            redisTemplate.convertAndSend(CHANNEL, objectMapper.writeValueAsString(message));
+        } catch (Exception e) {
+            // 다른 노드로는 전달되지 않으며, 이 노드의 구독자에게만 직접 전달
+            log.warn("Failed to publish chat message for room {}: {}", message.getRoomId(), e.getMessage());
+            deliver(message);
+            // Redis 장애 중 다른 노드의 메시지도 받지 못했을 수 있으므로 최근 메시지 버퍼를 DB에서 다시 채움
+            recentMessageBuffer.invalidate(message.getRoomId());
+        }
+    }
+
+    /**
+     * 채팅방 다음 순번
+     * 키가 없으면(처음 사용하거나 Redis에서 사라진 경우) 마지막 순번을 구해 키 생성과 증가를 한 번에 수행한다.
+     */
+    private Long nextSeq(Long roomId) {
+        List<String> keys = List.of(SEQ_KEY_PREFIX + roomId);
+        Long seq = redisTemplate.execute(SEQ_SCRIPT, keys);
+        if (seq == null || seq < 0) {
+            seq = redisTemplate.execute(SEQ_SCRIPT, keys, String.valueOf(lastSeq(roomId)));
+        }
+        if (seq == null) {
+            throw new IllegalStateException("Failed to assign sequence for room " + roomId);
+        }
+        return seq;
+    }
+
+    /**
+     * 이미 부여된 마지막 순번 (DB에 저장된 것, 이 노드 저널에서 저장 대기 중인 것, 최근 전달받은 것 중 최대)
+     */
+    private long lastSeq(Long roomId) {
+        // 저장 대기 중인 메시지는 DB에 저장된 뒤 목록에서 빠지므로 DB보다 먼저 확인
+        long unflushed = messageJournal.maxUnflushedSeq(roomId);
+        long recent = recentMessageBuffer.lastSeq(roomId);
+        return Math.max(messagesRepository.findMaxSeq(roomId), Math.max(unflushed, recent));
+    }
+
+    /**
+     * Redis로 전달된 메시지를 이 노드의 구독자에게 전달
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            deliver(objectMapper.readValue(message.getBody(), ChatMessageDTO.class));
+        } catch (Exception e) {
+            log.warn("Ignoring malformed chat message: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 채널 구독 완료 (시작 시와 연결이 끊겼다가 다시 구독할 때)
+     * 끊긴 동안의 메시지는 다시 오지 않으므로 최근 메시지 버퍼를 모두 무효화한다.
+     */
+    @Override
+    public void onChannelSubscribed(byte[] channel, long count) {
+        if (CHANNEL.equals(new String(channel, StandardCharsets.UTF_8))) {
+            log.info("Subscribed to {}, invalidating recent chat message buffers", CHANNEL);
+            recentMessageBuffer.invalidateAll();
+        }
+    }
+
+    /**
+     * 전송 실패 응답 (처리 전에 거부된 경우)
+     */
+    public void reject(Long senderId, Long roomId, String clientMessageId, String reason) {
+        ack(senderId, ChatAckDTO.failure(roomId, clientMessageId, reason));
+    }
+
+    private void deliver(ChatMessageDTO message) {
+        recentMessageBuffer.add(message);
+        messagingTemplate.convertAndSend(ROOM_DESTINATION + message.getRoomId(), message);
+    }
+
+    private void ack(Long senderId, ChatAckDTO ack) {
+        try {
+            messagingTemplate.convertAndSendToUser(String.valueOf(senderId), ACK_DESTINATION, ack);
+        } catch (Exception e) {
+            log.warn("Failed to send chat ack to user {}: {}", senderId, e.getMessage());
+        }
+    }
+
+    private static RedisScript<Long> script(String path) {
+        DefaultRedisScript<Long> script = new DefaultRedisScript<>();
+        script.setLocation(new ClassPathResource(path));
+        script.setResultType(Long.class);
+        return script;
+    }
+}
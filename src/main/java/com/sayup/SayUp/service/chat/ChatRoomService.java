@@ -1,18 +1,22 @@
 package com.sayup.SayUp.service.chat;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sayup.SayUp.dto.chat.ChatRoomDTO;
+import com.sayup.SayUp.dto.user.UserProfileDTO;
 import com.sayup.SayUp.entity.chat.ChatRoom;
 import com.sayup.SayUp.entity.user.User;
 import com.sayup.SayUp.repository.ChatRoomRepository;
 import com.sayup.SayUp.repository.UserRepository;
+import com.sayup.SayUp.service.friend.RelationshipStatusService;
+import com.sayup.SayUp.service.user.UserProfileCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Arrays;
-import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 
 @Slf4j
@@ -23,16 +27,20 @@ public class ChatRoomService {
 
     private final ChatRoomRepository chatRoomRepository;
     private final UserRepository userRepository;
-    private final ObjectMapper objectMapper;
+    private final RelationshipStatusService relationshipStatusService;
+    private final UserProfileCache userProfileCache;
+
+    // 채팅방 메타데이터 기본값 (상대방 TTS 벡터 등 개인 데이터는 저장하지 않음)
+    private static final String EMPTY_METADATA = "{}";
 
     /**
-     * 두 사용자가 참여하는 채팅방 생성 또는 기존 방 반환
+     * 두 사용자가 참여하는 채팅방 생성 또는 기존 방 반환 (친구 관계인 경우만)
      *
      * @param currentUserId 현재 로그인한 유저의 ID
      * @param friendUserId 친구로 선택한 유저의 ID
-     * @return 기존 또는 새로 생성된 채팅방
+     * @return 기존 또는 새로 생성된 채팅방 (엔티티 대신 참여자 프로필만 담은 응답)
      */
-    public ChatRoom createOrEnterRoom(Long currentUserId, Long friendUserId) {
+    public ChatRoomDTO createOrEnterRoom(Long currentUserId, Long friendUserId) {
         // 입력 검증
         if (currentUserId == null || friendUserId == null) {
             throw new IllegalArgumentException("사용자 ID는 null일 수 없습니다.");
@@ -42,13 +50,24 @@ public class ChatRoomService {
             throw new IllegalArgumentException("자기 자신과는 채팅방을 만들 수 없습니다.");
         }
 
+        // 친구 관계 확인 (기존 방 입장도 동일하게 확인)
+        if (!relationshipStatusService.areFriends(currentUserId, friendUserId)) {
+            log.warn("User {} attempted to open chat room with non-friend {}", currentUserId, friendUserId);
+            throw new IllegalArgumentException("친구인 사용자와만 채팅할 수 있습니다.");
+        }
+
         log.info("Creating or entering chat room between users: {} and {}", currentUserId, friendUserId);
 
         // 두 사용자 간의 기존 채팅방이 존재하는지 확인
         Optional<ChatRoom> existingRoom = chatRoomRepository.findByUserIds(currentUserId, friendUserId);
         if (existingRoom.isPresent()) {
-            log.info("Existing chat room found: {}", existingRoom.get().getId());
-            return existingRoom.get();
+            ChatRoom room = existingRoom.get();
+            log.info("Existing chat room found: {}", room.getId());
+            // 이전에 메타데이터로 저장된 TTS 벡터 제거
+            if (room.getMetadata() != null && room.getMetadata().contains("tts_vector_")) {
+                room.setMetadata(EMPTY_METADATA);
+            }
+            return toDTO(room);
         }
 
         // 사용자 정보 조회 및 검증
@@ -64,26 +83,17 @@ public class ChatRoomService {
         }
 
         try {
-            // 친구의 TTS 벡터를 메타데이터에 저장 (암호화 고려 필요)
-            Map<String, Object> metadataMap = new HashMap<>();
-            if (friendUser.getTtsVector() != null && !friendUser.getTtsVector().trim().isEmpty()) {
-                metadataMap.put("tts_vector_" + friendUserId, friendUser.getTtsVector());
-                log.debug("TTS vector stored for user: {}", friendUserId);
-            }
-
-        String metadataJson = objectMapper.writeValueAsString(metadataMap);
-
-        // 새로운 채팅방 객체 생성 및 저장
-        ChatRoom room = ChatRoom.builder()
-                .participants(Arrays.asList(currentUser, friendUser))
-                .metadata(metadataJson)
-                .build();
+            // 새로운 채팅방 객체 생성 및 저장 (TTS 벡터는 필요할 때 사용자 ID로 조회)
+            ChatRoom room = ChatRoom.builder()
+                    .participants(Arrays.asList(currentUser, friendUser))
+                    .metadata(EMPTY_METADATA)
+                    .build();
 
             ChatRoom savedRoom = chatRoomRepository.save(room);
             log.info("New chat room created: {} between users: {} and {}", 
                     savedRoom.getId(), currentUserId, friendUserId);
             
-            return savedRoom;
+            return toDTO(savedRoom);
 
         } catch (Exception e) {
             log.error("Error creating chat room between users {} and {}: {}", 
@@ -128,4 +138,29 @@ public class ChatRoomService {
 
         return room;
     }
+
+    /**
+     * 채팅방 구독 시 참여자 확인 (이후 전송은 연결된 세션에 기록된 결과만 확인)
+     */
+    @Transactional(readOnly = true)
+    public void joinRoom(Long roomId, Long userId) {
+        if (roomId == null || userId == null) {
+            throw new IllegalArgumentException("채팅방 ID와 사용자 ID는 null일 수 없습니다.");
+        }
+
+        if (!chatRoomRepository.isParticipant(roomId, userId)) {
+            log.warn("User {} attempted to subscribe to chat room {} without permission", userId, roomId);
+            throw new IllegalArgumentException("해당 채팅방에 접근할 권한이 없습니다.");
+        }
+    }
+
+    // 참여자 프로필은 캐시에서 조회 (User 엔티티의 비밀번호, TTS 벡터 등은 응답에 담지 않음)
+    private ChatRoomDTO toDTO(ChatRoom room) {
+        List<Long> participantIds = room.getParticipants().stream().map(User::getUserId).toList();
+        Map<Long, UserProfileDTO> profiles = userProfileCache.getAll(participantIds);
+        return new ChatRoomDTO(room.getId(), participantIds.stream()
+                .map(profiles::get)
+                .filter(Objects::nonNull)
+                .toList());
+    }
 }
@@ -0,0 +1,382 @@
+package com.sayup.SayUp.service.chat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sayup.SayUp.dto.chat.ChatMessageDTO;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.AllArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 채팅 메시지 저장 (write-behind)
+ * 처리된 메시지를 메모리 큐에 받아, 전용 스레드가 묶음 단위로 로컬 저널 파일에 기록(fsync 한 번)한 뒤 전송 확인을 보내고
+ * 이어서 같은 묶음을 한 트랜잭션의 JDBC 배치 INSERT로 DB에 저장한다. (메시지마다 트랜잭션/fsync를 하지 않음)
+ * 묶음은 batch-size개가 모이거나 첫 메시지 이후 max-delay가 지나면 기록한다.
+ *
+ * 저널 파일에는 전송 확인 후 아직 DB에 저장되지 않은 메시지만 남으며, 비정상 종료 후 시작 시 다시 저장한다.
+ * 평소에는 일반 INSERT로 저장하여 (room_id, seq) 순번 충돌이 오류로 드러나게 하고,
+ * 이미 저장되었을 수 있는 메시지를 다시 넣는 복구와 충돌 이후 재시도에서만 ON DUPLICATE KEY UPDATE로 기존 행을 유지한다.
+ * 이때 저장되지 않은 행은 로그로 남긴다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MessageJournal {
+
+    private static final String INSERT_SQL = "INSERT INTO messages (room_id, sender_id, seq, sender, content, created_at) "
+            + "VALUES (?, ?, ?, 'USER', ?, ?)";
+    // 이미 있는 (room_id, seq)는 그대로 두고 영향받은 행 수 0을 돌려줌
+    private static final String RECOVER_SQL = INSERT_SQL + " ON DUPLICATE KEY UPDATE seq = seq";
+
+    // 큐가 비어 있을 때 종료 여부를 확인하는 간격
+    private static final long IDLE_POLL_MS = 200;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${chat.journal.path:chat-journal.log}")
+    private String journalPath;
+
+    @Value("${chat.journal.queue-capacity:20000}")
+    private int queueCapacity;
+
+    @Value("${chat.journal.batch-size:500}")
+    private int batchSize;
+
+    @Value("${chat.journal.max-delay:20}")
+    private long maxDelay;
+
+    @Value("${chat.journal.retry-interval:1000}")
+    private long retryInterval;
+
+    private BlockingQueue<Entry> queue;
+    private FileChannel channel;
+    private Thread writer;
+    private volatile boolean running;
+
+    // 저널에 기록되고 아직 DB에 저장되지 않은 메시지 (저널 스레드만 접근)
+    private final List<ChatMessageDTO> unflushed = new ArrayList<>();
+    private long lastFailureAt;
+
+    // 채팅방별로 받았지만 아직 DB에 저장되지 않은 메시지 수와 그중 가장 큰 순번 (큐 + 저널, 다른 스레드에서 조회)
+    private final Map<Long, PendingRoom> pending = new ConcurrentHashMap<>();
+
+    @AllArgsConstructor
+    private static class Entry {
+        private final ChatMessageDTO message;
+        private final Runnable onDurable;
+        private final Runnable onFailed;
+    }
+
+    private static class PendingRoom {
+        private int count;
+        private long maxSeq;
+    }
+
+    @PostConstruct
+    public void init() throws IOException {
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        Path path = Path.of(journalPath).toAbsolutePath();
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        recover(path);
+        channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+
+        running = true;
+        writer = new Thread(this::run, "chat-journal");
+        writer.start();
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException, IOException {
+        // 큐에 남은 메시지까지 기록한 뒤 종료
+        running = false;
+        writer.join(TimeUnit.SECONDS.toMillis(10));
+        channel.close();
+    }
+
+    /**
+     * 메시지 저장 예약 (큐가 가득 차면 false - 호출자는 전송 실패로 응답)
+     *
+     * @param onDurable 저널 파일(또는 DB)에 기록된 뒤 저널 스레드에서 호출
+     * @param onFailed  기록하지 못했을 때 저널 스레드에서 호출
+     */
+    public boolean append(ChatMessageDTO message, Runnable onDurable, Runnable onFailed) {
+        // 저널 스레드가 저장을 마치기 전에 등록되도록 큐에 넣기 전에 기록
+        hold(message);
+        if (!queue.offer(new Entry(message, onDurable, onFailed))) {
+            release(List.of(message));
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 채팅방에 아직 DB에 저장되지 않은 메시지가 있는지
+     */
+    public boolean hasUnflushed(Long roomId) {
+        return pending.containsKey(roomId);
+    }
+
+    /**
+     * 채팅방의 아직 DB에 저장되지 않은 메시지 중 가장 큰 순번 (없으면 0)
+     */
+    public long maxUnflushedSeq(Long roomId) {
+        PendingRoom room = pending.get(roomId);
+        if (room == null) {
+            return 0;
+        }
+        synchronized (room) {
+            return room.maxSeq;
+        }
+    }
+
+    private void run() {
+        List<Entry> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                // DB 장애로 저장되지 않은 메시지가 쌓이면 새 메시지를 받지 않음 (큐가 차서 전송 실패 응답으로 이어짐)
+                if (unflushed.size() < queueCapacity) {
+                    collect(batch);
+                } else {
+                    Thread.sleep(retryInterval);
+                }
+                if (!batch.isEmpty()) {
+                    write(batch);
+                    batch.clear();
+                }
+                flush(false);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                log.error("Unexpected chat journal error: {}", e.getMessage());
+            }
+        }
+        flush(true);
+    }
+
+    /**
+     * batch-size개가 모이거나 첫 메시지 이후 max-delay가 지날 때까지 모음
+     */
+    private void collect(List<Entry> batch) throws InterruptedException {
+        Entry first = queue.poll(IDLE_POLL_MS, TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return;
+        }
+        batch.add(first);
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(maxDelay);
+        while (batch.size() < batchSize) {
+            queue.drainTo(batch, batchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= batchSize || remaining <= 0) {
+                break;
+            }
+            Entry next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void write(List<Entry> batch) {
+        List<ChatMessageDTO> messages = batch.stream().map(entry -> entry.message).toList();
+        boolean durable;
+        try {
+            append(messages);
+            unflushed.addAll(messages);
+            durable = true;
+        } catch (IOException e) {
+            // 저널에 기록하지 못하면 DB 저장이 끝난 뒤에 전송 확인
+            log.error("Failed to write chat journal, storing {} messages directly: {}", messages.size(), e.getMessage());
+            durable = store(messages);
+            release(messages);
+        }
+
+        for (Entry entry : batch) {
+            try {
+                (durable ? entry.onDurable : entry.onFailed).run();
+            } catch (Exception e) {
+                log.warn("Chat journal callback failed for room {}: {}", entry.message.getRoomId(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 저널에 남은 메시지를 DB에 저장하고, 모두 저장되면 저널 파일을 비움
+     * 실패하면 retry-interval 이후 다시 시도한다. (force면 즉시 시도)
+     */
+    private void flush(boolean force) {
+        if (unflushed.isEmpty() || (!force && System.currentTimeMillis() - lastFailureAt < retryInterval)) {
+            return;
+        }
+        if (!store(unflushed)) {
+            lastFailureAt = System.currentTimeMillis();
+            return;
+        }
+
+        release(unflushed);
+        unflushed.clear();
+        try {
+            // 비우기 전에 종료되어도 시작 시 복구 INSERT로 다시 저장하므로 중복되지 않음
+            channel.truncate(0);
+        } catch (IOException e) {
+            log.warn("Failed to truncate chat journal: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 한 트랜잭션에서 JDBC 배치 INSERT (커밋 한 번)
+     * 순번이 충돌하면 오류를 남기고 복구 INSERT로 나머지 메시지를 저장한다. (같은 묶음을 계속 재시도하지 않음)
+     */
+    private boolean store(List<ChatMessageDTO> messages) {
+        try {
+            insert(INSERT_SQL, messages);
+            return true;
+        } catch (DuplicateKeyException e) {
+            log.error("Chat message sequence collision in batch of {} messages: {}", messages.size(), e.getMessage());
+            return recoverStore(messages);
+        } catch (Exception e) {
+            log.warn("Failed to store {} chat messages, will retry: {}", messages.size(), e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 이미 저장되었을 수 있는 메시지 저장 (있는 행은 유지하고 로그로 남김)
+     */
+    private boolean recoverStore(List<ChatMessageDTO> messages) {
+        try {
+            insert(RECOVER_SQL, messages);
+            return true;
+        } catch (Exception e) {
+            log.warn("Failed to store {} chat messages, will retry: {}", messages.size(), e.getMessage());
+            return false;
+        }
+    }
+
+    private void insert(String sql, List<ChatMessageDTO> messages) {
+        transactionTemplate.executeWithoutResult(status -> checkInserted(messages,
+                jdbcTemplate.batchUpdate(sql, messages, batchSize, (ps, message) -> {
+                    ps.setLong(1, message.getRoomId());
+                    ps.setLong(2, message.getSenderId());
+                    ps.setLong(3, message.getSeq());
+                    ps.setString(4, message.getContent());
+                    ps.setTimestamp(5, Timestamp.valueOf(message.getSentAt()));
+                })));
+    }
+
+    /**
+     * 배치 결과에서 추가되지 않은 행(영향받은 행 수 0) 기록
+     * 드라이버가 여러 행 INSERT로 합쳐 보내 행별 결과를 알 수 없으면(SUCCESS_NO_INFO) 확인하지 않는다.
+     */
+    private void checkInserted(List<ChatMessageDTO> messages, int[][] counts) {
+        if (counts == null) {
+            return;
+        }
+        int index = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                if (count == 0 && index < messages.size()) {
+                    ChatMessageDTO message = messages.get(index);
+                    log.error("Chat message not inserted, (room_id, seq) already exists: room {} seq {} sender {}",
+                            message.getRoomId(), message.getSeq(), message.getSenderId());
+                }
+                index++;
+            }
+        }
+    }
+
+    private void append(List<ChatMessageDTO> messages) throws IOException {
+        StringBuilder lines = new StringBuilder();
+        for (ChatMessageDTO message : messages) {
+            lines.append(objectMapper.writeValueAsString(message)).append('\n');
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        channel.force(false);
+    }
+
+    /**
+     * 이전 실행에서 전송 확인 후 저장되지 않은 메시지 복구 (마지막 줄이 잘렸으면 무시)
+     * DB 저장에 실패하면 저널 스레드가 이어서 재시도한다.
+     */
+    private void recover(Path path) throws IOException {
+        if (!Files.exists(path)) {
+            return;
+        }
+
+        for (String line : Files.readAllLines(path, StandardCharsets.UTF_8)) {
+            if (line.isBlank()) {
+                continue;
+            }
+            try {
+                ChatMessageDTO message = objectMapper.readValue(line, ChatMessageDTO.class);
+                hold(message);
+                unflushed.add(message);
+            } catch (IOException e) {
+                log.warn("Ignoring malformed chat journal entry: {}", e.getMessage());
+            }
+        }
+        if (unflushed.isEmpty()) {
+            return;
+        }
+
+        log.info("Recovering {} chat messages from journal", unflushed.size());
+        if (recoverStore(unflushed)) {
+            release(unflushed);
+            unflushed.clear();
+            Files.write(path, new byte[0]);
+        }
+    }
+
+    private void hold(ChatMessageDTO message) {
+        pending.compute(message.getRoomId(), (roomId, room) -> {
+            PendingRoom held = room != null ? room : new PendingRoom();
+            synchronized (held) {
+                held.count++;
+                held.maxSeq = Math.max(held.maxSeq, message.getSeq());
+            }
+            return held;
+        });
+    }
+
+    // DB에 저장되었거나 전송 실패로 끝난 메시지
+    private void release(List<ChatMessageDTO> messages) {
+        for (ChatMessageDTO message : messages) {
+            pending.computeIfPresent(message.getRoomId(), (roomId, room) -> {
+                synchronized (room) {
+                    return --room.count > 0 ? room : null;
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,237 @@
+package com.sayup.SayUp.service.chat;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sayup.SayUp.dto.chat.ChatMessageDTO;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 최근 활동한 채팅방별 마지막 메시지 버퍼 (메모리)
+ * 채팅방마다 고정 크기 링 버퍼에 마지막 size개 메시지를 순번 순으로 보관하여 채팅방을 열 때의 조회는 DB를 거치지 않는다.
+ * 모든 노드가 Redis Pub/Sub으로 모든 메시지를 받아 채우므로 DB 저장(write-behind)이 늦어져도 최신 메시지가 빠지지 않는다.
+ * Pub/Sub은 전달을 보장하지 않으므로 구독이 다시 연결되거나 발행에 실패하면 버퍼를 무효화하여 DB에서 다시 채운다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RecentMessageBuffer {
+
+    private final MeterRegistry meterRegistry;
+
+    @Getter
+    @Value("${chat.recent.size:50}")
+    private int capacity;
+
+    @Value("${chat.recent.max-rooms:10000}")
+    private long maxRooms;
+
+    @Value("${chat.recent.ttl:1800000}")
+    private long ttl;
+
+    private Cache<Long, Ring> rooms;
+
+    @PostConstruct
+    public void init() {
+        this.rooms = Caffeine.newBuilder()
+                .maximumSize(maxRooms)
+                .expireAfterAccess(Duration.ofMillis(ttl))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, rooms, "chat-recent-messages");
+    }
+
+    /**
+     * 새 메시지 기록 (버퍼가 없으면 만들어 이후 메시지부터 보관)
+     */
+    public void add(ChatMessageDTO message) {
+        ring(message.getRoomId()).add(message);
+    }
+
+    public Ring ring(Long roomId) {
+        return rooms.get(roomId, key -> new Ring(capacity));
+    }
+
+    /**
+     * 채팅방 버퍼 무효화 (빠진 메시지가 있을 수 있음 - 다음 조회에서 DB로 다시 채움)
+     */
+    public void invalidate(Long roomId) {
+        Ring ring = rooms.getIfPresent(roomId);
+        if (ring != null) {
+            ring.invalidate();
+        }
+    }
+
+    /**
+     * 모든 채팅방 버퍼 무효화 (구독이 끊긴 동안 받지 못한 메시지가 있을 수 있음)
+     */
+    public void invalidateAll() {
+        rooms.asMap().values().forEach(Ring::invalidate);
+    }
+
+    /**
+     * 이 노드가 받은 채팅방의 가장 큰 순번 (버퍼가 없으면 0)
+     */
+    public long lastSeq(Long roomId) {
+        Ring ring = rooms.getIfPresent(roomId);
+        return ring != null ? ring.lastSeq() : 0;
+    }
+
+    /**
+     * 채팅방 하나의 링 버퍼
+     * 참여자와 DB의 마지막 메시지로 한 번 채운 뒤(load)부터 조회에 사용한다.
+     */
+    public static class Ring {
+        private final ChatMessageDTO[] slots;
+
+        // 가장 오래된 메시지 위치와 보관 수
+        private int start;
+        private int size;
+
+        private boolean loaded;
+        private Set<Long> participantIds = Set.of();
+
+        // 버퍼보다 오래된 메시지를 버린 적이 있는지, 채팅방의 첫 메시지부터 보관 중인지
+        private boolean dropped;
+        private boolean hasOldest;
+
+        Ring(int capacity) {
+            this.slots = new ChatMessageDTO[Math.max(capacity, 1)];
+        }
+
+        public synchronized boolean isLoaded() {
+            return loaded;
+        }
+
+        public synchronized boolean hasParticipant(Long userId) {
+            return participantIds.contains(userId);
+        }
+
+        /**
+         * 참여자와 DB의 마지막 메시지(최신순 최대 capacity건)로 채움 (그 사이 받은 메시지와 합침)
+         *
+         * @param complete DB에 저장되지 않은 메시지가 없어 latest가 채팅방의 마지막 메시지까지 포함하는지
+         */
+        public synchronized void load(Set<Long> participantIds, List<ChatMessageDTO> latest, boolean complete) {
+            latest.forEach(this::add);
+            this.participantIds = Set.copyOf(participantIds);
+            // 저장 대기 중인 메시지가 있으면 첫 메시지부터 보관 중인지 알 수 없음
+            this.hasOldest = complete && latest.size() < slots.length && !dropped;
+            // 없는 채팅방이면 다음 조회에서 다시 확인
+            this.loaded = !participantIds.isEmpty();
+        }
+
+        /**
+         * 순번 위치에 삽입 (노드마다 도착 순서가 다를 수 있으나 대부분 맨 뒤, 같은 순번은 무시)
+         */
+        public synchronized void add(ChatMessageDTO message) {
+            long seq = message.getSeq();
+            int position = size;
+            while (position > 0 && at(position - 1).getSeq() >= seq) {
+                if (at(position - 1).getSeq() == seq) {
+                    return;
+                }
+                position--;
+            }
+
+            if (size == slots.length) {
+                dropped = true;
+                hasOldest = false;
+                if (position == 0) {
+                    // 버퍼의 모든 메시지보다 오래된 메시지
+                    return;
+                }
+                // 가장 오래된 메시지를 덮어씀
+                start = (start + 1) % slots.length;
+                size--;
+                position--;
+            }
+
+            for (int i = size; i > position; i--) {
+                slots[index(i)] = at(i - 1);
+            }
+            slots[index(position)] = message;
+            size++;
+        }
+
+        public synchronized long lastSeq() {
+            return size > 0 ? at(size - 1).getSeq() : 0;
+        }
+
+        /**
+         * 버퍼를 비우고 다시 채우도록 표시
+         */
+        public synchronized void invalidate() {
+            Arrays.fill(slots, null);
+            start = 0;
+            size = 0;
+            dropped = false;
+            hasOldest = false;
+            loaded = false;
+        }
+
+        /**
+         * beforeSeq보다 이전 메시지 최신순 최대 limit건 (버퍼만으로 답할 수 없으면 null)
+         * 다른 노드에서 저장 대기 중이던 메시지를 Pub/Sub으로 받지 못한 채 채워졌을 수 있으므로 순번이 이어지지 않으면 답하지 않는다.
+         */
+        public synchronized List<ChatMessageDTO> page(long beforeSeq, int limit) {
+            if (!loaded) {
+                return null;
+            }
+
+            List<ChatMessageDTO> result = latest(beforeSeq, limit);
+            if (!contiguous(result, beforeSeq)) {
+                return null;
+            }
+            if (result.size() == limit) {
+                return result;
+            }
+            // 부족하면 버퍼 이전 메시지가 DB에 남아 있을 수 있음 (첫 메시지부터 보관 중이면 순번 1까지 있어야 함)
+            return hasOldest && (result.isEmpty() || result.get(result.size() - 1).getSeq() == 1) ? result : null;
+        }
+
+        // 커서 바로 앞부터 빠진 순번 없이 이어지는지 (최신순)
+        private static boolean contiguous(List<ChatMessageDTO> messages, long beforeSeq) {
+            long expected = beforeSeq == Long.MAX_VALUE || messages.isEmpty() ? -1 : beforeSeq - 1;
+            for (ChatMessageDTO message : messages) {
+                if (expected >= 0 && message.getSeq() != expected) {
+                    return false;
+                }
+                expected = message.getSeq() - 1;
+            }
+            return true;
+        }
+
+        /**
+         * 버퍼에 있는 beforeSeq보다 이전 메시지 최신순 최대 limit건 (빠진 메시지가 있을 수 있음)
+         */
+        public synchronized List<ChatMessageDTO> latest(long beforeSeq, int limit) {
+            List<ChatMessageDTO> result = new ArrayList<>(limit);
+            for (int i = size - 1; i >= 0 && result.size() < limit; i--) {
+                if (at(i).getSeq() < beforeSeq) {
+                    result.add(at(i));
+                }
+            }
+            return result;
+        }
+
+        private ChatMessageDTO at(int offset) {
+            return slots[index(offset)];
+        }
+
+        private int index(int offset) {
+            return (start + offset) % slots.length;
+        }
+    }
+}
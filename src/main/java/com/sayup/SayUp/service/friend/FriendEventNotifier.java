@@ -0,0 +1,152 @@
+package com.sayup.SayUp.service.friend;
+
+import com.sayup.SayUp.dto.friend.FriendEventDTO;
+import com.sayup.SayUp.event.FriendshipChangedEvent;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.user.SimpUserRegistry;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 친구 관계 변경을 WebSocket으로 상대방에게 알림 (/user/queue/friends)
+ * 커밋된 변경은 Redis Pub/Sub으로 모든 노드에 전달되고, 해당 사용자가 연결된 노드만 전송한다.
+ * 짧은 간격 동안 쌓인 이벤트는 중복을 제거해 한 번에 보내며, 너무 많이 쌓이면 RESYNC 하나로 대체한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FriendEventNotifier implements MessageListener {
+
+    private static final String CHANNEL = "friend:notifications";
+    private static final String DESTINATION = "/queue/friends";
+    private static final FriendEventDTO RESYNC = new FriendEventDTO(FriendEventDTO.Type.RESYNC, null);
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final SimpUserRegistry simpUserRegistry;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    @Value("${friend.events.max-buffered:50}")
+    private int maxBuffered;
+
+    // 수신자 userId -> 전송 대기 중인 이벤트
+    private final Map<Long, List<FriendEventDTO>> pending = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void init() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    /**
+     * 친구 관계 변경 커밋 이후 다른 노드를 포함해 알림 전파
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onFriendshipChanged(FriendshipChangedEvent event) {
+        FriendEventDTO.Type type;
+        Long recipientId;
+        Long counterpartId;
+        switch (event.getType()) {
+            case REQUESTED -> {
+                type = FriendEventDTO.Type.FRIEND_REQUEST_SENT;
+                recipientId = event.getAddresseeId();
+                counterpartId = event.getRequesterId();
+            }
+            case ACCEPTED -> {
+                type = FriendEventDTO.Type.FRIEND_REQUEST_ACCEPTED;
+                recipientId = event.getRequesterId();
+                counterpartId = event.getAddresseeId();
+            }
+            case REMOVED -> {
+                type = FriendEventDTO.Type.FRIEND_REMOVED;
+                recipientId = event.getAddresseeId();
+                counterpartId = event.getRequesterId();
+            }
+            default -> {
+                // 거절은 요청자에게 알리지 않음
+                return;
+            }
+        }
+
+        try {
+            // 형식: type:recipientId:counterpartId (자기 노드도 이 메시지를 받아 전송)
+            redisTemplate.convertAndSend(CHANNEL, type + ":" + recipientId + ":" + counterpartId);
+        } catch (Exception e) {
+            // 다른 노드로는 전달되지 않으며, 해당 사용자가 이 노드에 연결되어 있으면 직접 전송
+            log.warn("Failed to publish friend notification: {}", e.getMessage());
+            enqueueIfConnected(recipientId, new FriendEventDTO(type, counterpartId));
+        }
+    }
+
+    /**
+     * Redis로 전달된 알림 수신
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split(":");
+        if (parts.length != 3) {
+            log.warn("Ignoring malformed friend notification");
+            return;
+        }
+
+        try {
+            enqueueIfConnected(Long.valueOf(parts[1]),
+                    new FriendEventDTO(FriendEventDTO.Type.valueOf(parts[0]), Long.valueOf(parts[2])));
+        } catch (IllegalArgumentException e) {
+            log.warn("Ignoring malformed friend notification: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 쌓인 이벤트를 사용자별로 한 번에 전송
+     */
+    @Scheduled(fixedDelayString = "${friend.events.flush-interval:500}")
+    public void flush() {
+        for (Long userId : pending.keySet()) {
+            List<FriendEventDTO> events = pending.remove(userId);
+            if (events == null || events.isEmpty()) {
+                continue;
+            }
+            try {
+                messagingTemplate.convertAndSendToUser(String.valueOf(userId), DESTINATION, events);
+            } catch (Exception e) {
+                log.warn("Failed to send friend events to user {}: {}", userId, e.getMessage());
+            }
+        }
+    }
+
+    private void enqueueIfConnected(Long recipientId, FriendEventDTO event) {
+        if (simpUserRegistry.getUser(String.valueOf(recipientId)) == null) {
+            return;
+        }
+
+        pending.compute(recipientId, (key, events) -> {
+            List<FriendEventDTO> buffer = events != null ? events : new ArrayList<>();
+            if (buffer.contains(event) || buffer.contains(RESYNC)) {
+                return buffer;
+            }
+            if (buffer.size() >= maxBuffered) {
+                // 클라이언트가 목록을 다시 조회하도록 대체
+                return new ArrayList<>(List.of(RESYNC));
+            }
+            buffer.add(event);
+            return buffer;
+        });
+    }
+}
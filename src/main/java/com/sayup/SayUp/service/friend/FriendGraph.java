@@ -0,0 +1,386 @@
+package com.sayup.SayUp.service.friend;
+
+import com.sayup.SayUp.event.FriendshipChangedEvent;
+import com.sayup.SayUp.repository.FriendshipRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.StringUtils;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * 메모리 친구 그래프 (사용자별 친구 ID 압축 비트맵)
+ * 수락/삭제 커밋 시 증분 갱신하고 Redis Pub/Sub으로 다른 노드에도 전파하며,
+ * 알 수도 있는 친구 추천과 함께 아는 친구 수 계산을 DB 조회 없이 처리한다.
+ *
+ * 시작 시에는 스냅샷 파일과 그 이후 수락된 관계만 읽어 적재하고, 스냅샷 이후의 삭제는
+ * 하루 한 번 전체 재구성으로 정리한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FriendGraph implements MessageListener {
+
+    private static final String CHANNEL = "friend-graph:events";
+    private static final int SNAPSHOT_VERSION = 1;
+    private static final int SCAN_BATCH_SIZE = 5000;
+
+    // 스냅샷 기록 중 수락된 관계를 놓치지 않도록 기준 시각을 앞당김
+    private static final long SNAPSHOT_SAFETY_MARGIN_SECONDS = 60;
+
+    private final FriendshipRepository friendshipRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    @Value("${friend.graph.snapshot-path:}")
+    private String snapshotPath;
+
+    // userId -> 친구 ID 비트맵 (게시된 비트맵은 수정하지 않고 복사 후 교체하므로 잠금 없이 조회)
+    private volatile Map<Integer, RoaringBitmap> adjacency = new ConcurrentHashMap<>();
+
+    // 재구성 중에 들어온 변경이 새 그래프에서 누락되지 않도록 함께 반영
+    private volatile Map<Integer, RoaringBitmap> rebuilding;
+
+    // 최초 적재 전에는 추천을 제공하지 않음
+    private volatile boolean ready = false;
+
+    // 간선 변경과 그래프 교체 간의 경합 방지 (조회는 잠금 없이 수행)
+    private final Object updateLock = new Object();
+
+    @Getter
+    @AllArgsConstructor
+    public static class Suggestion {
+        private final Long userId;
+        private final int mutualFriendCount;
+    }
+
+    @PostConstruct
+    public void init() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        saveSnapshot();
+    }
+
+    /**
+     * 애플리케이션 시작 시 스냅샷 + 변경분으로 적재 (스냅샷이 없으면 전체 적재)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!loadSnapshot()) {
+            rebuild();
+        }
+    }
+
+    /**
+     * 스냅샷 이후 누락된 삭제 등을 정리하기 위한 주기적 전체 재구성
+     */
+    @Scheduled(cron = "${friend.graph.reconcile-cron:0 0 4 * * *}")
+    public synchronized void rebuild() {
+        long start = System.currentTimeMillis();
+        beginRebuild();
+        try {
+            int edges = scan(afterId -> friendshipRepository.findAcceptedEdges(afterId, PageRequest.of(0, SCAN_BATCH_SIZE)));
+            finishRebuild();
+            log.info("Friend graph rebuilt with {} edges in {} ms", edges, System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            // 재구성 실패 시 기존 그래프 유지
+            log.warn("Failed to rebuild friend graph: {}", e.getMessage());
+        } finally {
+            synchronized (updateLock) {
+                this.rebuilding = null;
+            }
+        }
+    }
+
+    /**
+     * 친구 관계 변경 커밋 이후 반영 및 다른 노드로 전파
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onFriendshipChanged(FriendshipChangedEvent event) {
+        boolean add;
+        if (event.getType() == FriendshipChangedEvent.Type.ACCEPTED) {
+            add = true;
+        } else if (event.getType() == FriendshipChangedEvent.Type.REMOVED) {
+            add = false;
+        } else {
+            return;
+        }
+
+        applyEdge(event.getRequesterId(), event.getAddresseeId(), add);
+        try {
+            // 형식: A|R:userId:userId
+            redisTemplate.convertAndSend(CHANNEL,
+                    (add ? "A" : "R") + ":" + event.getRequesterId() + ":" + event.getAddresseeId());
+        } catch (Exception e) {
+            // 다른 노드는 다음 전체 재구성에서 정리됨
+            log.warn("Failed to publish friend graph change: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 다른 노드에서 발행한 간선 변경 수신
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split(":");
+        if (parts.length != 3) {
+            log.warn("Ignoring malformed friend graph message");
+            return;
+        }
+
+        try {
+            applyEdge(Long.valueOf(parts[1]), Long.valueOf(parts[2]), "A".equals(parts[0]));
+        } catch (NumberFormatException e) {
+            log.warn("Ignoring malformed friend graph message: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 알 수도 있는 친구 추천 (아는 친구 수 내림차순 상위 limit명)
+     */
+    public List<Suggestion> suggest(Long userId, int limit) {
+        RoaringBitmap friends = friendsOf(userId);
+        if (!ready || friends == null || friends.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        int self = toVertex(userId);
+        Map<Integer, Integer> mutualCounts = new HashMap<>();
+        for (int friendId : friends) {
+            RoaringBitmap friendsOfFriend = adjacency.get(friendId);
+            if (friendsOfFriend == null) {
+                continue;
+            }
+            for (int candidate : RoaringBitmap.andNot(friendsOfFriend, friends)) {
+                if (candidate != self) {
+                    mutualCounts.merge(candidate, 1, Integer::sum);
+                }
+            }
+        }
+
+        // 아는 친구 수가 같으면 ID가 작은 사용자 우선
+        Comparator<Map.Entry<Integer, Integer>> ranking = Map.Entry.<Integer, Integer>comparingByValue()
+                .thenComparing(Map.Entry.<Integer, Integer>comparingByKey().reversed());
+        PriorityQueue<Map.Entry<Integer, Integer>> top = new PriorityQueue<>(limit + 1, ranking);
+        for (Map.Entry<Integer, Integer> entry : mutualCounts.entrySet()) {
+            top.offer(entry);
+            if (top.size() > limit) {
+                top.poll();
+            }
+        }
+
+        List<Suggestion> suggestions = new ArrayList<>(top.size());
+        while (!top.isEmpty()) {
+            Map.Entry<Integer, Integer> entry = top.poll();
+            suggestions.add(0, new Suggestion(entry.getKey().longValue(), entry.getValue()));
+        }
+        return suggestions;
+    }
+
+    /**
+     * 두 사용자의 함께 아는 친구 수
+     */
+    public int mutualFriendCount(Long userId, Long otherUserId) {
+        RoaringBitmap friends = friendsOf(userId);
+        RoaringBitmap otherFriends = friendsOf(otherUserId);
+        if (friends == null || otherFriends == null) {
+            return 0;
+        }
+        return RoaringBitmap.andCardinality(friends, otherFriends);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 현재 그래프를 스냅샷 파일로 저장 (임시 파일에 기록 후 교체)
+     */
+    @Scheduled(fixedDelayString = "${friend.graph.snapshot-interval:3600000}",
+            initialDelayString = "${friend.graph.snapshot-interval:3600000}")
+    public void saveSnapshot() {
+        if (!ready || !StringUtils.hasText(snapshotPath)) {
+            return;
+        }
+
+        Path target = Path.of(snapshotPath);
+        LocalDateTime watermark = LocalDateTime.now().minusSeconds(SNAPSHOT_SAFETY_MARGIN_SECONDS);
+        Map<Integer, RoaringBitmap> snapshot = adjacency;
+        try {
+            Path temp = Files.createTempFile(target.toAbsolutePath().getParent(), "friend-graph", ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                out.writeInt(SNAPSHOT_VERSION);
+                out.writeLong(watermark.toEpochSecond(ZoneOffset.UTC));
+                out.writeInt(snapshot.size());
+                for (Map.Entry<Integer, RoaringBitmap> entry : snapshot.entrySet()) {
+                    out.writeInt(entry.getKey());
+                    entry.getValue().serialize(out);
+                }
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            log.info("Friend graph snapshot saved with {} users", snapshot.size());
+        } catch (IOException e) {
+            log.warn("Failed to save friend graph snapshot: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 스냅샷 파일과 그 이후 수락된 관계로 그래프 적재
+     *
+     * @return 스냅샷이 없거나 읽을 수 없으면 false
+     */
+    public synchronized boolean loadSnapshot() {
+        if (!StringUtils.hasText(snapshotPath) || !Files.isReadable(Path.of(snapshotPath))) {
+            return false;
+        }
+
+        long start = System.currentTimeMillis();
+        beginRebuild();
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(Path.of(snapshotPath))))) {
+            if (in.readInt() != SNAPSHOT_VERSION) {
+                log.warn("Ignoring friend graph snapshot with unsupported version");
+                return false;
+            }
+            LocalDateTime watermark = LocalDateTime.ofEpochSecond(in.readLong(), 0, ZoneOffset.UTC);
+            int users = in.readInt();
+            synchronized (updateLock) {
+                for (int i = 0; i < users; i++) {
+                    int userId = in.readInt();
+                    RoaringBitmap friends = new RoaringBitmap();
+                    friends.deserialize(in);
+                    rebuilding.merge(userId, friends, RoaringBitmap::or);
+                }
+            }
+
+            int delta = scan(afterId -> friendshipRepository.findAcceptedEdgesSince(
+                    watermark, afterId, PageRequest.of(0, SCAN_BATCH_SIZE)));
+            finishRebuild();
+            log.info("Friend graph loaded from snapshot with {} users and {} new edges in {} ms",
+                    users, delta, System.currentTimeMillis() - start);
+            return true;
+        } catch (Exception e) {
+            log.warn("Failed to load friend graph snapshot: {}", e.getMessage());
+            return false;
+        } finally {
+            synchronized (updateLock) {
+                this.rebuilding = null;
+            }
+        }
+    }
+
+    private void beginRebuild() {
+        synchronized (updateLock) {
+            this.rebuilding = new ConcurrentHashMap<>();
+        }
+    }
+
+    private void finishRebuild() {
+        synchronized (updateLock) {
+            rebuilding.values().forEach(RoaringBitmap::runOptimize);
+            this.adjacency = rebuilding;
+            this.ready = true;
+        }
+    }
+
+    /**
+     * ID 순 키셋 배치로 간선을 읽어 재구성 중인 그래프에 추가
+     */
+    private int scan(Function<Long, List<FriendshipRepository.FriendEdge>> batchLoader) {
+        int count = 0;
+        long afterId = 0;
+        List<FriendshipRepository.FriendEdge> batch;
+        do {
+            batch = batchLoader.apply(afterId);
+            synchronized (updateLock) {
+                for (FriendshipRepository.FriendEdge edge : batch) {
+                    int low = toVertex(edge.getUserLowId());
+                    int high = toVertex(edge.getUserHighId());
+                    rebuilding.computeIfAbsent(low, key -> new RoaringBitmap()).add(high);
+                    rebuilding.computeIfAbsent(high, key -> new RoaringBitmap()).add(low);
+                }
+            }
+            count += batch.size();
+            if (!batch.isEmpty()) {
+                afterId = batch.get(batch.size() - 1).getId();
+            }
+        } while (batch.size() == SCAN_BATCH_SIZE);
+        return count;
+    }
+
+    private void applyEdge(Long userId, Long otherUserId, boolean add) {
+        int a = toVertex(userId);
+        int b = toVertex(otherUserId);
+        synchronized (updateLock) {
+            updateVertex(adjacency, a, b, add);
+            updateVertex(adjacency, b, a, add);
+            if (rebuilding != null) {
+                updateVertex(rebuilding, a, b, add);
+                updateVertex(rebuilding, b, a, add);
+            }
+        }
+    }
+
+    private static void updateVertex(Map<Integer, RoaringBitmap> graph, int vertex, int friend, boolean add) {
+        RoaringBitmap current = graph.get(vertex);
+        RoaringBitmap updated = current == null ? new RoaringBitmap() : current.clone();
+        if (add) {
+            updated.add(friend);
+        } else {
+            updated.remove(friend);
+        }
+
+        if (updated.isEmpty()) {
+            graph.remove(vertex);
+        } else {
+            graph.put(vertex, updated);
+        }
+    }
+
+    private RoaringBitmap friendsOf(Long userId) {
+        return userId == null ? null : adjacency.get(toVertex(userId));
+    }
+
+    // 비트맵은 32비트 정수만 담으므로 사용자 ID는 int 범위여야 함
+    private static int toVertex(Long userId) {
+        return Math.toIntExact(userId);
+    }
+}
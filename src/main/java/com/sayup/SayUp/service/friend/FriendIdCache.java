@@ -0,0 +1,150 @@
+package com.sayup.SayUp.service.friend;
+
+import com.sayup.SayUp.event.FriendshipChangedEvent;
+import com.sayup.SayUp.repository.FriendshipRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 사용자별 친구 ID 집합 캐시 (Redis Set: friends:{userId})
+ * 처음 조회할 때 DB에서 적재하고, 이후에는 친구 수락/삭제 커밋 시 증분 갱신한다.
+ * 갱신마다 사용자별 세대(friends:gen:{userId})를 올리고, 적재는 DB 조회 전에 읽은 세대가 그대로일 때만 저장하므로
+ * DB 조회와 적재 사이에 커밋된 변경이 누락된 목록은 캐시되지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FriendIdCache {
+
+    private static final String KEY_PREFIX = "friends:";
+    private static final String GENERATION_PREFIX = "friends:gen:";
+
+    // 친구가 없는 사용자도 캐시되도록 함께 저장하는 값 (userId는 0이 될 수 없음)
+    private static final String EMPTY_SENTINEL = "0";
+
+    private static final RedisScript<Long> LOAD_SCRIPT = script("redis/friend-set-load.lua");
+    private static final RedisScript<Long> UPDATE_SCRIPT = script("redis/friend-set-update.lua");
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final FriendshipRepository friendshipRepository;
+
+    @Value("${friend.id-cache.ttl:86400000}")
+    private long ttl;
+
+    /**
+     * 친구 ID 목록 조회 (캐시에 없으면 DB에서 적재, Redis 장애 시 DB 결과 반환)
+     */
+    public Set<Long> getFriendIds(Long userId) {
+        String key = KEY_PREFIX + userId;
+        String generation;
+        try {
+            Set<String> members = redisTemplate.opsForSet().members(key);
+            if (members != null && !members.isEmpty()) {
+                return members.stream()
+                        .filter(member -> !EMPTY_SENTINEL.equals(member))
+                        .map(Long::valueOf)
+                        .collect(Collectors.toSet());
+            }
+            // DB 조회 전에 세대를 읽어 둠
+            generation = redisTemplate.opsForValue().get(GENERATION_PREFIX + userId);
+        } catch (Exception e) {
+            log.warn("Failed to read friend id cache for user {}: {}", userId, e.getMessage());
+            return Set.copyOf(friendshipRepository.findFriendIds(userId));
+        }
+
+        List<Long> friendIds = friendshipRepository.findFriendIds(userId);
+        load(userId, generation != null ? generation : "0", friendIds);
+        return Set.copyOf(friendIds);
+    }
+
+    /**
+     * 친구가 한 명 이상인지 확인 (캐시된 집합은 목록을 읽지 않고 크기만 확인)
+     */
+    public boolean hasFriends(Long userId) {
+        try {
+            Long size = redisTemplate.opsForSet().size(KEY_PREFIX + userId);
+            if (size != null && size > 0) {
+                // 센티널만 있으면 친구 없음
+                return size > 1;
+            }
+        } catch (Exception e) {
+            log.warn("Failed to read friend id cache size for user {}: {}", userId, e.getMessage());
+        }
+        return !getFriendIds(userId).isEmpty();
+    }
+
+    /**
+     * 친구 관계 변경 커밋 이후 양쪽 사용자의 집합 갱신
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onFriendshipChanged(FriendshipChangedEvent event) {
+        String operation;
+        if (event.getType() == FriendshipChangedEvent.Type.ACCEPTED) {
+            operation = "add";
+        } else if (event.getType() == FriendshipChangedEvent.Type.REMOVED) {
+            operation = "remove";
+        } else {
+            return;
+        }
+
+        update(event.getRequesterId(), operation, event.getAddresseeId());
+        update(event.getAddresseeId(), operation, event.getRequesterId());
+    }
+
+    private void load(Long userId, String generation, List<Long> friendIds) {
+        List<String> args = new ArrayList<>(friendIds.size() + 3);
+        args.add(String.valueOf(ttl));
+        args.add(generation);
+        args.add(EMPTY_SENTINEL);
+        friendIds.forEach(friendId -> args.add(String.valueOf(friendId)));
+        try {
+            Long result = redisTemplate.execute(LOAD_SCRIPT, List.of(KEY_PREFIX + userId, GENERATION_PREFIX + userId),
+                    args.toArray());
+            if (result != null && result < 0) {
+                log.debug("Friend id cache load for user {} skipped: changed during load", userId);
+            }
+        } catch (Exception e) {
+            log.warn("Failed to load friend id cache for user {}: {}", userId, e.getMessage());
+        }
+    }
+
+    private void update(Long userId, String operation, Long friendId) {
+        String key = KEY_PREFIX + userId;
+        try {
+            redisTemplate.execute(UPDATE_SCRIPT, List.of(key, GENERATION_PREFIX + userId),
+                    operation, String.valueOf(friendId), String.valueOf(ttl));
+        } catch (Exception e) {
+            // 갱신하지 못한 집합은 남겨두면 오래된 값을 돌려주므로 삭제 시도
+            log.warn("Failed to update friend id cache for user {}: {}", userId, e.getMessage());
+            evict(key);
+        }
+    }
+
+    private void evict(String key) {
+        try {
+            redisTemplate.delete(key);
+        } catch (Exception e) {
+            log.warn("Failed to evict friend id cache {}: {}", key, e.getMessage());
+        }
+    }
+
+    private static RedisScript<Long> script(String path) {
+        DefaultRedisScript<Long> script = new DefaultRedisScript<>();
+        script.setLocation(new ClassPathResource(path));
+        script.setResultType(Long.class);
+        return script;
+    }
+}
@@ -1,19 +1,45 @@
 package com.sayup.SayUp.service.friend;
 
+import com.sayup.SayUp.dto.CursorPage;
+import com.sayup.SayUp.dto.KeysetCursor;
+import com.sayup.SayUp.dto.friend.FriendBatchRequestDTO;
+import com.sayup.SayUp.dto.friend.FriendBatchResultDTO;
+import com.sayup.SayUp.dto.friend.FriendDTO;
+import com.sayup.SayUp.dto.friend.FriendPresenceDTO;
+import com.sayup.SayUp.dto.friend.FriendSuggestionDTO;
 import com.sayup.SayUp.dto.friend.PendingRequestDTO;
 import com.sayup.SayUp.entity.friend.FriendRelationship;
 import com.sayup.SayUp.entity.user.User;
+import com.sayup.SayUp.event.FriendshipChangedEvent;
 import com.sayup.SayUp.repository.FriendshipRepository;
 import com.sayup.SayUp.repository.UserRepository;
 import com.sayup.SayUp.security.CustomUserDetails;
+import com.sayup.SayUp.service.presence.PresenceService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -22,60 +48,115 @@ import java.util.stream.Collectors;
 @Transactional
 public class FriendshipService {
 
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_SUGGESTIONS = 50;
+
     private final FriendshipRepository friendshipRepository;
     private final UserRepository userRepository;
+    private final FriendIdCache friendIdCache;
+    private final FriendGraph friendGraph;
+    private final PresenceService presenceService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${friend.batch.max-size:100}")
+    private int maxBatchSize;
 
     /**
      * 친구 요청 보내기
+     * 상대방이 이미 나에게 요청을 보낸 상태라면 새 요청을 만들지 않고 그 요청을 수락한다.
+     * 동시에 요청이 들어와 유니크 인덱스 충돌이 나면 먼저 커밋된 행을 기준으로 한 번 더 처리한다.
      * 
      * @param requesterDetails 요청자 정보
      * @param addresseeId 친구 요청을 받을 사용자의 userId
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void sendFriendRequest(CustomUserDetails requesterDetails, Long addresseeId) {
         // 입력 검증
         if (requesterDetails == null || addresseeId == null) {
             throw new IllegalArgumentException("요청자 정보와 대상 사용자 ID는 null일 수 없습니다.");
         }
 
-        User requester = requesterDetails.getUser();
+        Long requesterId = requesterDetails.getUserId();
 
         // 자기 자신에게 친구 요청을 보내는 것을 방지
-        if (requester.getUserId().equals(addresseeId)) {
-            log.warn("User {} attempted to send friend request to themselves", requester.getUserId());
+        if (requesterId.equals(addresseeId)) {
+            log.warn("User {} attempted to send friend request to themselves", requesterId);
             throw new IllegalArgumentException("자기 자신에게는 친구 요청을 보낼 수 없습니다.");
         }
 
+        log.info("Friend request from user {} to user {}", requesterId, addresseeId);
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> createOrMergeRequest(requesterId, addresseeId));
+        } catch (DataIntegrityViolationException | OptimisticLockingFailureException e) {
+            // 같은 사용자 쌍의 행이 동시에 먼저 커밋되었거나 수정됨 - 새 트랜잭션에서 그 행을 기준으로 다시 처리
+            log.info("Concurrent friend request detected between {} and {}, retrying", requesterId, addresseeId);
+            transactionTemplate.executeWithoutResult(status -> createOrMergeRequest(requesterId, addresseeId));
+        }
+    }
+
+    private void createOrMergeRequest(Long requesterId, Long addresseeId) {
+        // principal은 엔티티가 아니므로 현재 트랜잭션의 참조로 사용 (활성 여부 확인 시 최신 행을 읽음)
+        User requester = userRepository.getReferenceById(requesterId);
+
         // 대상 사용자 존재 확인
         User addressee = userRepository.findById(addresseeId)
                 .orElseThrow(() -> new IllegalArgumentException("대상 사용자를 찾을 수 없습니다. ID: " + addresseeId));
 
+        FriendRelationship relationship = prepareRequest(requester, addressee,
+                friendshipRepository.findRelationship(requester.getUserId(), addresseeId).orElse(null));
+        if (relationship == null) {
+            return;
+        }
+
+        // 거절된 이전 요청 삭제를 먼저 반영 (같은 사용자 쌍은 유니크하므로 INSERT 전에 DELETE)
+        friendshipRepository.flush();
+        friendshipRepository.save(relationship);
+        eventPublisher.publishEvent(new FriendshipChangedEvent(
+                FriendshipChangedEvent.Type.REQUESTED, requester.getUserId(), addresseeId));
+        log.info("Friend request created successfully between {} and {}", 
+                requester.getUserId(), addresseeId);
+    }
+
+    /**
+     * 친구 요청 규칙 적용
+     * 상대방의 대기 요청과 병합되면 null, 아니면 저장할 새 요청을 반환한다. (거절된 이전 요청은 삭제 예약)
+     */
+    private FriendRelationship prepareRequest(User requester, User addressee, FriendRelationship existing) {
+        Long addresseeId = addressee.getUserId();
+
         // 사용자 활성 상태 확인
         if (!requester.getIsActive() || !addressee.getIsActive()) {
             throw new IllegalArgumentException("비활성 사용자와는 친구 관계를 맺을 수 없습니다.");
         }
 
-        log.info("Friend request from user {} to user {}", requester.getUserId(), addresseeId);
-
         // 이미 존재하는 친구 관계 검증
-        Optional<FriendRelationship> existingRelationship =
-                friendshipRepository.findRelationship(requester, addressee);
-
-        if (existingRelationship.isPresent()) {
-            FriendRelationship relationship = existingRelationship.get();
-            
-            if (relationship.getStatus() == FriendRelationship.FriendshipStatus.ACCEPTED) {
+        if (existing != null) {
+            if (existing.getStatus() == FriendRelationship.FriendshipStatus.ACCEPTED) {
                 log.warn("Friend request failed: Already friends between {} and {}", 
                         requester.getUserId(), addresseeId);
                 throw new IllegalArgumentException("이미 친구 관계입니다.");
-            } else if (relationship.getStatus() == FriendRelationship.FriendshipStatus.PENDING) {
+            } else if (existing.getStatus() == FriendRelationship.FriendshipStatus.PENDING) {
+                if (existing.getRequester().getUserId().equals(addresseeId)) {
+                    // 상대방이 먼저 보낸 요청이 대기 중 - 서로 요청한 것이므로 바로 친구로 병합
+                    existing.setStatus(FriendRelationship.FriendshipStatus.ACCEPTED);
+                    existing.setAcceptedAt(LocalDateTime.now());
+                    eventPublisher.publishEvent(new FriendshipChangedEvent(
+                            FriendshipChangedEvent.Type.ACCEPTED, addresseeId, requester.getUserId()));
+                    log.info("Mutual friend requests merged into friendship between {} and {}",
+                            requester.getUserId(), addresseeId);
+                    return null;
+                }
                 log.warn("Friend request failed: Request already pending between {} and {}", 
                         requester.getUserId(), addresseeId);
                 throw new IllegalArgumentException("이미 대기 중인 친구 요청이 있습니다.");
-            } else if (relationship.getStatus() == FriendRelationship.FriendshipStatus.REJECTED) {
+            } else if (existing.getStatus() == FriendRelationship.FriendshipStatus.REJECTED) {
                 // 거절된 요청의 경우 새로운 요청을 허용하되, 이전 요청을 삭제
                 log.info("Deleting previous rejected request and creating new one between {} and {}", 
                         requester.getUserId(), addresseeId);
-                friendshipRepository.delete(relationship);
+                friendshipRepository.delete(existing);
             }
         }
 
@@ -85,139 +166,349 @@ public class FriendshipService {
         relationship.setAddressee(addressee);
         relationship.setStatus(FriendRelationship.FriendshipStatus.PENDING);
         relationship.setRequestedAt(LocalDateTime.now());
-
-        friendshipRepository.save(relationship);
-        log.info("Friend request created successfully between {} and {}", 
-                requester.getUserId(), addresseeId);
+        return relationship;
     }
 
     /**
      * 친구 요청 수락
+     * 대기 중인 경우에만 상태를 바꾸는 조건부 UPDATE 한 번으로 처리하며, 이미 수락된 요청을 다시 수락하면
+     * 예외 없이 현재 상태를 반환한다. (모바일 중복 탭, 재시도)
      * 
      * @param addresseeDetails 요청을 받은 사용자 정보
      * @param relationshipId 친구 관계 ID
+     * @return 처리 후 관계 상태
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public FriendRelationship.FriendshipStatus acceptFriendRequest(CustomUserDetails addresseeDetails, Long relationshipId) {
+        return respondToRequest(addresseeDetails, relationshipId, true);
+    }
+
+    /**
+     * 친구 요청 거절 (이미 거절된 요청이면 현재 상태 반환)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public FriendRelationship.FriendshipStatus rejectFriendRequest(CustomUserDetails addresseeDetails, Long relationshipId) {
+        return respondToRequest(addresseeDetails, relationshipId, false);
+    }
+
+    /**
+     * 단건 수락/거절
+     * 트랜잭션 없이 조회한 뒤 조건부 UPDATE를 자체 트랜잭션으로 실행하므로 행 잠금은 UPDATE 한 문장 동안만 유지된다.
+     * 동시에 다른 요청이 먼저 상태를 바꿔 UPDATE가 0건이면 최신 상태를 다시 읽어 판단한다.
      */
-    public void acceptFriendRequest(CustomUserDetails addresseeDetails, Long relationshipId) {
+    private FriendRelationship.FriendshipStatus respondToRequest(CustomUserDetails addresseeDetails, Long relationshipId,
+                                                                 boolean accept) {
         // 입력 검증
         if (addresseeDetails == null || relationshipId == null) {
             throw new IllegalArgumentException("사용자 정보와 관계 ID는 null일 수 없습니다.");
         }
 
-        User addressee = addresseeDetails.getUser();
-        
-        log.info("Friend request acceptance attempt by user {} for relationship {}", 
-                addressee.getUserId(), relationshipId);
+        Long addresseeId = addresseeDetails.getUserId();
+        String action = accept ? "acceptance" : "rejection";
+
+        log.info("Friend request {} attempt by user {} for relationship {}", action, addresseeId, relationshipId);
 
         // 친구 관계 조회
-        FriendRelationship relationship = friendshipRepository.findById(relationshipId)
+        FriendRelationship relationship = findRelationshipById(relationshipId);
+        if (!requiresTransition(addresseeId, relationship, accept)) {
+            log.info("Friend request {} already {}, returning current state", relationshipId, relationship.getStatus());
+            return relationship.getStatus();
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        int updated = accept
+                ? friendshipRepository.acceptPending(relationshipId, addresseeId, now)
+                : friendshipRepository.rejectPending(relationshipId, addresseeId, now);
+        if (updated == 0) {
+            // 다른 요청이 먼저 처리함 - 같은 결과면 성공으로 간주하고, 반대 결과면 예외
+            FriendRelationship current = findRelationshipById(relationshipId);
+            requiresTransition(addresseeId, current, accept);
+            log.info("Friend request {} concurrently changed to {}", relationshipId, current.getStatus());
+            return current.getStatus();
+        }
+
+        eventPublisher.publishEvent(new FriendshipChangedEvent(
+                accept ? FriendshipChangedEvent.Type.ACCEPTED : FriendshipChangedEvent.Type.REJECTED,
+                relationship.getRequester().getUserId(), addresseeId));
+        log.info("Friend request {} successful: {} by user {}", action, relationshipId, addresseeId);
+        return accept ? FriendRelationship.FriendshipStatus.ACCEPTED : FriendRelationship.FriendshipStatus.REJECTED;
+    }
+
+    private FriendRelationship findRelationshipById(Long relationshipId) {
+        return friendshipRepository.findById(relationshipId)
                 .orElseThrow(() -> new IllegalArgumentException("친구 요청을 찾을 수 없습니다. ID: " + relationshipId));
+    }
 
-        // 권한 검증: 요청을 받은 사용자가 맞는지 확인
-        if (!relationship.getAddressee().getUserId().equals(addressee.getUserId())) {
-            log.warn("Unauthorized friend request acceptance attempt by user {} for relationship {}", 
-                    addressee.getUserId(), relationshipId);
-            throw new IllegalArgumentException("해당 친구 요청을 수락할 권한이 없습니다.");
+    /**
+     * 친구 요청/수락/거절 일괄 처리 (연락처 가져오기 등)
+     * 대상 사용자와 기존 관계를 각각 IN 쿼리 한 번으로 조회하고, 새 요청과 상태 변경은 flush 시
+     * JDBC 배치로 묶어 전송한다. 항목별 실패는 전체를 중단하지 않고 결과에 사유를 담는다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<FriendBatchResultDTO> processBatch(CustomUserDetails userDetails, List<FriendBatchRequestDTO.Item> items) {
+        if (userDetails == null || items == null || items.isEmpty()) {
+            throw new IllegalArgumentException("사용자 정보와 처리할 항목은 비어 있을 수 없습니다.");
         }
+        if (items.size() > maxBatchSize) {
+            throw new IllegalArgumentException("한 번에 처리할 수 있는 항목은 최대 " + maxBatchSize + "개입니다.");
+        }
+
+        Long userId = userDetails.getUserId();
+        log.info("Friend batch of {} items by user {}", items.size(), userId);
 
-        // 상태 검증
-        if (relationship.getStatus() != FriendRelationship.FriendshipStatus.PENDING) {
-            log.warn("Invalid friend request status for acceptance: {} (relationship: {})", 
-                    relationship.getStatus(), relationshipId);
-            throw new IllegalArgumentException("대기 중인 요청만 수락할 수 있습니다.");
+        try {
+            return transactionTemplate.execute(status -> applyBatch(userId, items));
+        } catch (DataIntegrityViolationException | OptimisticLockingFailureException e) {
+            // 같은 사용자 쌍의 행이 동시에 먼저 커밋되었거나 수정됨 - 새 트랜잭션에서 전체를 다시 처리
+            log.info("Concurrent friend change detected in batch by user {}, retrying", userId);
+            return transactionTemplate.execute(status -> applyBatch(userId, items));
         }
+    }
 
-        // 친구 요청 수락 처리
-        relationship.setStatus(FriendRelationship.FriendshipStatus.ACCEPTED);
-        relationship.setAcceptedAt(LocalDateTime.now());
+    private List<FriendBatchResultDTO> applyBatch(Long userId, List<FriendBatchRequestDTO.Item> items) {
+        User user = userRepository.getReferenceById(userId);
+        Set<Long> targetIds = items.stream()
+                .map(FriendBatchRequestDTO.Item::getUserId)
+                .collect(Collectors.toSet());
+
+        Map<Long, User> targets = userRepository.findAllById(targetIds).stream()
+                .collect(Collectors.toMap(User::getUserId, Function.identity()));
+        Map<Long, FriendRelationship> relationships = new HashMap<>();
+        for (FriendRelationship relationship : friendshipRepository.findAllBetween(userId, targetIds)) {
+            Long otherId = relationship.getUserLowId().equals(userId)
+                    ? relationship.getUserHighId()
+                    : relationship.getUserLowId();
+            relationships.put(otherId, relationship);
+        }
 
-        friendshipRepository.save(relationship);
-        log.info("Friend request accepted successfully: {} by user {}", 
-                relationshipId, addressee.getUserId());
+        List<FriendBatchResultDTO> results = new ArrayList<>(items.size());
+        List<FriendRelationship> created = new ArrayList<>();
+        Set<Long> processed = new HashSet<>();
+        for (FriendBatchRequestDTO.Item item : items) {
+            Long targetId = item.getUserId();
+            try {
+                if (targetId.equals(userId)) {
+                    throw new IllegalArgumentException("자기 자신은 대상으로 지정할 수 없습니다.");
+                }
+                if (!processed.add(targetId)) {
+                    throw new IllegalArgumentException("같은 사용자에 대한 항목이 중복되었습니다.");
+                }
+
+                FriendRelationship existing = relationships.get(targetId);
+                if (item.getAction() == FriendBatchRequestDTO.Action.REQUEST) {
+                    User target = targets.get(targetId);
+                    if (target == null) {
+                        throw new IllegalArgumentException("대상 사용자를 찾을 수 없습니다. ID: " + targetId);
+                    }
+                    FriendRelationship relationship = prepareRequest(user, target, existing);
+                    if (relationship != null) {
+                        created.add(relationship);
+                    }
+                } else {
+                    if (existing == null) {
+                        throw new IllegalArgumentException("친구 요청을 찾을 수 없습니다.");
+                    }
+                    applyResponse(userId, existing, item.getAction() == FriendBatchRequestDTO.Action.ACCEPT);
+                }
+                results.add(FriendBatchResultDTO.success(item));
+            } catch (IllegalArgumentException e) {
+                results.add(FriendBatchResultDTO.failure(item, e.getMessage()));
+            }
+        }
+
+        // 거절된 이전 요청 삭제를 먼저 반영한 뒤 새 요청을 한 번에 저장 (hibernate.jdbc.batch_size 단위 배치)
+        friendshipRepository.flush();
+        friendshipRepository.saveAll(created);
+        friendshipRepository.flush();
+        created.forEach(relationship -> eventPublisher.publishEvent(new FriendshipChangedEvent(
+                FriendshipChangedEvent.Type.REQUESTED, userId, relationship.getAddressee().getUserId())));
+
+        log.info("Friend batch processed for user {}: {} created, {} failed", userId, created.size(),
+                results.stream().filter(result -> !result.isSuccess()).count());
+        return results;
     }
 
     /**
-     * 친구 요청 거절
+     * 받은 요청 수락/거절 규칙 검증
+     * 권한이 없거나 이미 반대 결과로 처리된 요청이면 예외, 이미 같은 결과로 처리되었으면 false를 반환한다.
+     *
+     * @return 대기 중이라 상태 변경이 필요하면 true
      */
-    public void rejectFriendRequest(CustomUserDetails addresseeDetails, Long relationshipId) {
-        // 입력 검증
-        if (addresseeDetails == null || relationshipId == null) {
-            throw new IllegalArgumentException("사용자 정보와 관계 ID는 null일 수 없습니다.");
+    private boolean requiresTransition(Long addresseeId, FriendRelationship relationship, boolean accept) {
+        // 권한 검증: 요청을 받은 사용자가 맞는지 확인
+        if (!relationship.getAddressee().getUserId().equals(addresseeId)) {
+            log.warn("Unauthorized friend request {} attempt by user {} for relationship {}", 
+                    accept ? "acceptance" : "rejection", addresseeId, relationship.getId());
+            throw new IllegalArgumentException(accept
+                    ? "해당 친구 요청을 수락할 권한이 없습니다."
+                    : "해당 친구 요청을 거절할 권한이 없습니다.");
         }
 
-        User addressee = addresseeDetails.getUser();
-        
-        log.info("Friend request rejection attempt by user {} for relationship {}", 
-                addressee.getUserId(), relationshipId);
+        FriendRelationship.FriendshipStatus target = accept
+                ? FriendRelationship.FriendshipStatus.ACCEPTED
+                : FriendRelationship.FriendshipStatus.REJECTED;
+        if (relationship.getStatus() == FriendRelationship.FriendshipStatus.PENDING) {
+            return true;
+        }
+        if (relationship.getStatus() == target) {
+            return false;
+        }
 
-        // 친구 관계 조회
-        FriendRelationship relationship = friendshipRepository.findById(relationshipId)
-                .orElseThrow(() -> new IllegalArgumentException("친구 요청을 찾을 수 없습니다. ID: " + relationshipId));
+        log.warn("Invalid friend request status for {}: {} (relationship: {})", 
+                accept ? "acceptance" : "rejection", relationship.getStatus(), relationship.getId());
+        throw new IllegalArgumentException(accept
+                ? "대기 중인 요청만 수락할 수 있습니다."
+                : "대기 중인 요청만 거절할 수 있습니다.");
+    }
 
-        // 권한 검증
-        if (!relationship.getAddressee().getUserId().equals(addressee.getUserId())) {
-            log.warn("Unauthorized friend request rejection attempt by user {} for relationship {}", 
-                    addressee.getUserId(), relationshipId);
-            throw new IllegalArgumentException("해당 친구 요청을 거절할 권한이 없습니다.");
+    /**
+     * 일괄 처리용 수락/거절 (엔티티 변경 - flush 시 버전 조건으로 UPDATE)
+     */
+    private void applyResponse(Long addresseeId, FriendRelationship relationship, boolean accept) {
+        if (!requiresTransition(addresseeId, relationship, accept)) {
+            return;
         }
 
-        // 상태 검증
-        if (relationship.getStatus() != FriendRelationship.FriendshipStatus.PENDING) {
-            throw new IllegalArgumentException("대기 중인 요청만 거절할 수 있습니다.");
+        if (accept) {
+            relationship.setStatus(FriendRelationship.FriendshipStatus.ACCEPTED);
+            relationship.setAcceptedAt(LocalDateTime.now());
+        } else {
+            relationship.setStatus(FriendRelationship.FriendshipStatus.REJECTED);
+            relationship.setRejectedAt(LocalDateTime.now());
         }
-
-        // 친구 요청 거절 처리
-        relationship.setStatus(FriendRelationship.FriendshipStatus.REJECTED);
-        friendshipRepository.save(relationship);
-        
-        log.info("Friend request rejected successfully: {} by user {}", 
-                relationshipId, addressee.getUserId());
+        eventPublisher.publishEvent(new FriendshipChangedEvent(
+                accept ? FriendshipChangedEvent.Type.ACCEPTED : FriendshipChangedEvent.Type.REJECTED,
+                relationship.getRequester().getUserId(), addresseeId));
     }
 
     /**
-     * 친구 목록 조회
+     * 친구 목록 조회 (수락 시각 최신순 키셋 페이지)
+     * 사용자가 쌍의 작은 ID인 관계와 큰 ID인 관계를 각각 인덱스 순서대로 size + 1건씩 읽어 병합하므로
+     * 페이지 깊이와 무관하게 페이지 크기만큼만 조회한다.
      */
     @Transactional(readOnly = true)
-    public List<User> getFriendsList(CustomUserDetails userDetails) {
+    public CursorPage<FriendDTO> getFriendsList(CustomUserDetails userDetails, String cursor, int size) {
         if (userDetails == null) {
             throw new IllegalArgumentException("사용자 정보는 null일 수 없습니다.");
         }
 
-        User user = userDetails.getUser();
-        log.info("Fetching friends list for user: {}", user.getUserId());
+        Long userId = userDetails.getUserId();
+        KeysetCursor position = KeysetCursor.decode(cursor);
+        int pageSize = normalizePageSize(size);
+        log.info("Fetching friends list for user: {}", userId);
+
+        // 친구가 없는 사용자는 DB 조회 생략
+        if (position == KeysetCursor.FIRST && !friendIdCache.hasFriends(userId)) {
+            return new CursorPage<>(List.of(), null, false);
+        }
+
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+        List<FriendDTO> rows = new ArrayList<>(
+                friendshipRepository.findFriendPageAsLow(userId, position.getTime(), position.getId(), limit));
+        rows.addAll(friendshipRepository.findFriendPageAsHigh(userId, position.getTime(), position.getId(), limit));
+        rows.sort(Comparator.comparing(FriendDTO::getFriendsSince)
+                .thenComparing(FriendDTO::getRelationshipId)
+                .reversed());
 
-        return friendshipRepository.findAllFriends(user).stream()
-                .map(relationship ->
-                        relationship.getRequester().getUserId().equals(user.getUserId())
-                                ? relationship.getAddressee()
-                                : relationship.getRequester())
-                .filter(friend -> friend.getIsActive()) // 활성 사용자만 필터링
-                .collect(Collectors.toList());
+        return CursorPage.of(rows, pageSize,
+                friend -> new KeysetCursor(friend.getFriendsSince(), friend.getRelationshipId()).encode());
     }
 
     /**
-     * 대기 중인 친구 요청 목록 조회
+     * 대기 중인 친구 요청 목록 조회 (요청 시각 최신순 키셋 페이지)
      */
     @Transactional(readOnly = true)
-    public List<PendingRequestDTO> getPendingRequests(CustomUserDetails userDetails) {
+    public CursorPage<PendingRequestDTO> getPendingRequests(CustomUserDetails userDetails, String cursor, int size) {
         if (userDetails == null) {
             throw new IllegalArgumentException("사용자 정보는 null일 수 없습니다.");
         }
 
-        User user = userDetails.getUser();
-        log.info("Fetching pending friend requests for user: {}", user.getUserId());
+        Long userId = userDetails.getUserId();
+        KeysetCursor position = KeysetCursor.decode(cursor);
+        int pageSize = normalizePageSize(size);
+        log.info("Fetching pending friend requests for user: {}", userId);
 
-        List<FriendRelationship> relationships = friendshipRepository
-                .findByAddresseeAndStatus(user, FriendRelationship.FriendshipStatus.PENDING);
+        List<FriendRelationship> relationships = friendshipRepository.findPendingPage(
+                userId, position.getTime(), position.getId(), PageRequest.of(0, pageSize + 1));
 
-        List<PendingRequestDTO> pendingRequests = relationships.stream()
-                .filter(rel -> rel.getRequester().getIsActive()) // 활성 사용자의 요청만 필터링
-                .map(rel -> new PendingRequestDTO(rel.getId(), rel.getRequester()))
-                .collect(Collectors.toList());
+        CursorPage<PendingRequestDTO> pendingRequests = CursorPage.of(relationships, pageSize,
+                        rel -> new KeysetCursor(rel.getRequestedAt(), rel.getId()).encode())
+                .map(rel -> new PendingRequestDTO(rel.getId(), rel.getRequester()));
 
-        log.info("Found {} pending requests for user: {}", pendingRequests.size(), user.getUserId());
+        log.info("Found {} pending requests for user: {}", pendingRequests.getItems().size(), userId);
         return pendingRequests;
     }
 
+    /**
+     * 알 수도 있는 친구 추천 (메모리 친구 그래프 기준, 활성 사용자만)
+     */
+    @Transactional(readOnly = true)
+    public List<FriendSuggestionDTO> getFriendSuggestions(CustomUserDetails userDetails, int limit) {
+        if (userDetails == null) {
+            throw new IllegalArgumentException("사용자 정보는 null일 수 없습니다.");
+        }
+
+        int size = Math.min(Math.max(limit, 1), MAX_SUGGESTIONS);
+        // 비활성 사용자를 제외해도 limit을 채울 수 있도록 여유 있게 조회
+        List<FriendGraph.Suggestion> suggestions = friendGraph.suggest(userDetails.getUserId(), size * 2);
+        if (suggestions.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, User> users = userRepository.findAllById(suggestions.stream()
+                        .map(FriendGraph.Suggestion::getUserId)
+                        .toList())
+                .stream()
+                .filter(User::getIsActive)
+                .collect(Collectors.toMap(User::getUserId, Function.identity()));
+
+        return suggestions.stream()
+                .filter(suggestion -> users.containsKey(suggestion.getUserId()))
+                .limit(size)
+                .map(suggestion -> new FriendSuggestionDTO(suggestion.getUserId(),
+                        users.get(suggestion.getUserId()).getUsername(), suggestion.getMutualFriendCount()))
+                .toList();
+    }
+
+    /**
+     * 함께 아는 친구 수 조회
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public int getMutualFriendCount(CustomUserDetails userDetails, Long otherUserId) {
+        if (userDetails == null || otherUserId == null) {
+            throw new IllegalArgumentException("사용자 정보와 대상 사용자 ID는 null일 수 없습니다.");
+        }
+        return friendGraph.mutualFriendCount(userDetails.getUserId(), otherUserId);
+    }
+
+    /**
+     * 내 친구들의 접속 상태 일괄 조회 (온라인 친구 우선, 최근 접속 순)
+     * 친구 ID는 Redis 캐시, 접속 상태는 메모리에서 읽으므로 DB를 조회하지 않는다.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public List<FriendPresenceDTO> getFriendsPresence(CustomUserDetails userDetails) {
+        if (userDetails == null) {
+            throw new IllegalArgumentException("사용자 정보는 null일 수 없습니다.");
+        }
+
+        return friendIdCache.getFriendIds(userDetails.getUserId()).stream()
+                .map(friendId -> {
+                    Long lastSeen = presenceService.getLastSeen(friendId);
+                    return new FriendPresenceDTO(friendId, presenceService.isOnline(friendId), lastSeen == null
+                            ? null : LocalDateTime.ofInstant(Instant.ofEpochMilli(lastSeen), ZoneId.systemDefault()));
+                })
+                .sorted(Comparator.comparing(FriendPresenceDTO::isOnline).reversed()
+                        .thenComparing(FriendPresenceDTO::getLastSeenAt, Comparator.nullsLast(Comparator.reverseOrder())))
+                .toList();
+    }
+
+    private static int normalizePageSize(int size) {
+        if (size <= 0) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        return Math.min(size, MAX_PAGE_SIZE);
+    }
+
     /**
      * 친구 관계 삭제
      */
@@ -226,14 +517,12 @@ public class FriendshipService {
             throw new IllegalArgumentException("사용자 정보와 친구 ID는 null일 수 없습니다.");
         }
 
-        User user = userDetails.getUser();
-        
-        log.info("Friend removal attempt by user {} for friend {}", user.getUserId(), friendUserId);
+        Long userId = userDetails.getUserId();
 
-        // 친구 관계 조회
-        Optional<FriendRelationship> relationship = friendshipRepository.findRelationship(user, 
-                userRepository.findById(friendUserId)
-                        .orElseThrow(() -> new IllegalArgumentException("친구 사용자를 찾을 수 없습니다. ID: " + friendUserId)));
+        log.info("Friend removal attempt by user {} for friend {}", userId, friendUserId);
+
+        // 친구 관계 조회 (사용자 쌍 유니크 인덱스 단건 조회)
+        Optional<FriendRelationship> relationship = friendshipRepository.findRelationship(userId, friendUserId);
 
         if (relationship.isEmpty()) {
             throw new IllegalArgumentException("친구 관계가 존재하지 않습니다.");
@@ -246,7 +535,9 @@ public class FriendshipService {
 
         // 친구 관계 삭제
         friendshipRepository.delete(rel);
+        eventPublisher.publishEvent(new FriendshipChangedEvent(
+                FriendshipChangedEvent.Type.REMOVED, userId, friendUserId));
         log.info("Friend relationship removed successfully between {} and {}", 
-                user.getUserId(), friendUserId);
+                userId, friendUserId);
     }
 }
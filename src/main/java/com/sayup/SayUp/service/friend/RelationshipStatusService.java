@@ -0,0 +1,141 @@
+package com.sayup.SayUp.service.friend;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sayup.SayUp.entity.friend.FriendRelationship;
+import com.sayup.SayUp.event.FriendshipChangedEvent;
+import com.sayup.SayUp.repository.FriendshipRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+/**
+ * 두 사용자 간 관계 상태 조회 (채팅방 생성, 친구 음성 접근 등 권한 확인용)
+ * 정규화된 사용자 쌍(low:high)을 키로 로컬 캐시에 보관하며, 캐시에 없을 때만 유니크 인덱스로 한 번 조회한다.
+ * 친구 관계 변경 커밋 이후 새 상태를 로컬 항목에 반영하고 Redis Pub/Sub으로 다른 노드에도 전파한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RelationshipStatusService implements MessageListener {
+
+    private static final String CHANNEL = "relationship:status";
+
+    public enum Status {
+        NONE,
+        PENDING,
+        ACCEPTED,
+        REJECTED
+    }
+
+    private final FriendshipRepository friendshipRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${friend.status-cache.max-size:100000}")
+    private long maxSize;
+
+    @Value("${friend.status-cache.ttl:600000}")
+    private long ttl;
+
+    private Cache<String, Status> statuses;
+
+    @PostConstruct
+    public void init() {
+        this.statuses = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMillis(ttl))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, statuses, "relationship-status");
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    public boolean areFriends(Long userId, Long otherUserId) {
+        return status(userId, otherUserId) == Status.ACCEPTED;
+    }
+
+    /**
+     * 관계 상태 조회 (관계가 없으면 NONE)
+     */
+    public Status status(Long userId, Long otherUserId) {
+        if (userId == null || otherUserId == null || userId.equals(otherUserId)) {
+            return Status.NONE;
+        }
+
+        return statuses.get(pairKey(userId, otherUserId), key -> friendshipRepository.findRelationship(userId, otherUserId)
+                .map(relationship -> toStatus(relationship.getStatus()))
+                .orElse(Status.NONE));
+    }
+
+    /**
+     * 친구 관계 변경 커밋 이후 로컬 항목 갱신 및 다른 노드로 전파
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onFriendshipChanged(FriendshipChangedEvent event) {
+        String key = pairKey(event.getRequesterId(), event.getAddresseeId());
+        Status status = switch (event.getType()) {
+            case REQUESTED -> Status.PENDING;
+            case ACCEPTED -> Status.ACCEPTED;
+            case REJECTED -> Status.REJECTED;
+            case REMOVED -> Status.NONE;
+        };
+        statuses.put(key, status);
+
+        try {
+            // 형식: lowUserId:highUserId:status
+            redisTemplate.convertAndSend(CHANNEL, key + ":" + status);
+        } catch (Exception e) {
+            // 다른 노드는 TTL 만료로 정리됨
+            log.warn("Failed to publish relationship status for {}: {}", key, e.getMessage());
+        }
+    }
+
+    /**
+     * 다른 노드에서 발행한 상태 변경 수신 (자기 노드가 보낸 메시지는 같은 값으로 덮어씀)
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.lastIndexOf(':');
+        if (separator <= 0) {
+            log.warn("Ignoring malformed relationship status message");
+            return;
+        }
+
+        String key = body.substring(0, separator);
+        try {
+            statuses.put(key, Status.valueOf(body.substring(separator + 1)));
+        } catch (IllegalArgumentException e) {
+            statuses.invalidate(key);
+        }
+    }
+
+    private static String pairKey(Long userId, Long otherUserId) {
+        return Math.min(userId, otherUserId) + ":" + Math.max(userId, otherUserId);
+    }
+
+    private static Status toStatus(FriendRelationship.FriendshipStatus status) {
+        return switch (status) {
+            case PENDING -> Status.PENDING;
+            case ACCEPTED -> Status.ACCEPTED;
+            case REJECTED -> Status.REJECTED;
+        };
+    }
+}
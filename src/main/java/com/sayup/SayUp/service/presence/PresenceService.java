@@ -0,0 +1,210 @@
+package com.sayup.SayUp.service.presence;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.socket.messaging.SessionConnectedEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Principal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * 사용자 접속 상태(presence)
+ * 모든 노드가 userId -> 마지막 접속 시각을 메모리(ConcurrentHashMap)에 보관하며 DB는 사용하지 않는다.
+ *
+ * 하트비트는 메모리만 갱신하고, 주기마다 그 사이에 하트비트를 보낸 사용자와 접속 종료한 사용자를
+ * 묶어서 Redis Pub/Sub 메시지 몇 개로 다른 노드에 전파한다. (사용자 수와 무관하게 주기당 발행 횟수 일정)
+ * 노드가 비정상 종료되면 그 노드 사용자는 갱신이 끊겨 타임아웃 후 오프라인으로 보인다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PresenceService implements MessageListener {
+
+    private static final String CHANNEL = "presence:events";
+    private static final String SEEN = "S";
+    private static final String OFFLINE = "O";
+
+    // 메시지 하나에 담는 최대 사용자 수
+    private static final int MAX_IDS_PER_MESSAGE = 5000;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    @Value("${presence.timeout:90000}")
+    private long timeout;
+
+    @Value("${presence.retention:86400000}")
+    private long retention;
+
+    // userId -> 마지막 접속 시각 (모든 노드의 사용자)
+    private final Map<Long, Long> lastSeen = new ConcurrentHashMap<>();
+
+    // 현재 온라인 사용자 (접속 종료 시 제거, 마지막 접속 시각은 유지)
+    private final Set<Long> online = ConcurrentHashMap.newKeySet();
+
+    // 이 노드에 연결된 사용자별 세션 수 (여러 탭/기기)
+    private final Map<Long, AtomicInteger> localSessions = new ConcurrentHashMap<>();
+
+    // 다음 전파 때 보낼 하트비트/접속 종료 사용자
+    private final Set<Long> pendingSeen = ConcurrentHashMap.newKeySet();
+    private final Set<Long> pendingOffline = ConcurrentHashMap.newKeySet();
+
+    @PostConstruct
+    public void init() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    @EventListener
+    public void onSessionConnected(SessionConnectedEvent event) {
+        Long userId = userIdOf(event.getUser());
+        if (userId != null) {
+            localSessions.computeIfAbsent(userId, key -> new AtomicInteger()).incrementAndGet();
+            heartbeat(userId);
+        }
+    }
+
+    @EventListener
+    public void onSessionDisconnected(SessionDisconnectEvent event) {
+        Long userId = userIdOf(event.getUser());
+        if (userId == null) {
+            return;
+        }
+
+        AtomicInteger sessions = localSessions.get(userId);
+        if (sessions != null && sessions.decrementAndGet() <= 0) {
+            localSessions.remove(userId, sessions);
+            markOffline(userId, System.currentTimeMillis());
+            pendingSeen.remove(userId);
+            pendingOffline.add(userId);
+        }
+    }
+
+    /**
+     * 하트비트 기록 (메모리만 갱신하고 전파는 다음 주기에 묶어서 수행)
+     */
+    public void heartbeat(Long userId) {
+        lastSeen.put(userId, System.currentTimeMillis());
+        online.add(userId);
+        pendingOffline.remove(userId);
+        pendingSeen.add(userId);
+    }
+
+    public boolean isOnline(Long userId) {
+        Long seenAt = lastSeen.get(userId);
+        return seenAt != null && online.contains(userId) && System.currentTimeMillis() - seenAt < timeout;
+    }
+
+    /**
+     * 마지막 접속 시각 (알 수 없으면 null)
+     */
+    public Long getLastSeen(Long userId) {
+        return lastSeen.get(userId);
+    }
+
+    /**
+     * 주기마다 쌓인 변경을 묶어서 다른 노드로 전파하고 오래된 항목 정리
+     */
+    @Scheduled(fixedDelayString = "${presence.flush-interval:5000}")
+    public void flush() {
+        long now = System.currentTimeMillis();
+        publish(SEEN, now, drain(pendingSeen));
+        publish(OFFLINE, now, drain(pendingOffline));
+
+        lastSeen.entrySet().removeIf(entry -> {
+            boolean expired = now - entry.getValue() > retention;
+            if (expired) {
+                online.remove(entry.getKey());
+            }
+            return expired;
+        });
+    }
+
+    /**
+     * 다른 노드에서 전파된 변경 수신
+     * 형식: S|O:timestamp:userId,userId,...
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split(":", 3);
+        if (parts.length != 3) {
+            log.warn("Ignoring malformed presence message");
+            return;
+        }
+
+        try {
+            long timestamp = Long.parseLong(parts[1]);
+            for (String id : parts[2].split(",")) {
+                Long userId = Long.valueOf(id);
+                if (SEEN.equals(parts[0])) {
+                    lastSeen.merge(userId, timestamp, Math::max);
+                    online.add(userId);
+                } else if (!localSessions.containsKey(userId)) {
+                    // 다른 노드에서 접속 종료해도 이 노드에 세션이 남아 있으면 온라인 유지
+                    markOffline(userId, timestamp);
+                }
+            }
+        } catch (NumberFormatException e) {
+            log.warn("Ignoring malformed presence message: {}", e.getMessage());
+        }
+    }
+
+    private void markOffline(Long userId, long timestamp) {
+        online.remove(userId);
+        lastSeen.merge(userId, timestamp, Math::max);
+    }
+
+    private void publish(String type, long timestamp, List<Long> userIds) {
+        for (int from = 0; from < userIds.size(); from += MAX_IDS_PER_MESSAGE) {
+            Collection<Long> chunk = userIds.subList(from, Math.min(from + MAX_IDS_PER_MESSAGE, userIds.size()));
+            String ids = chunk.stream().map(String::valueOf).collect(Collectors.joining(","));
+            try {
+                redisTemplate.convertAndSend(CHANNEL, type + ":" + timestamp + ":" + ids);
+            } catch (Exception e) {
+                // 다음 하트비트에서 다시 전파됨
+                log.warn("Failed to publish presence update: {}", e.getMessage());
+                return;
+            }
+        }
+    }
+
+    private static List<Long> drain(Set<Long> pending) {
+        List<Long> drained = new ArrayList<>();
+        for (Long userId : pending) {
+            if (pending.remove(userId)) {
+                drained.add(userId);
+            }
+        }
+        return drained;
+    }
+
+    private static Long userIdOf(Principal principal) {
+        if (principal == null) {
+            return null;
+        }
+        try {
+            // STOMP principal 이름은 userId
+            return Long.valueOf(principal.getName());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
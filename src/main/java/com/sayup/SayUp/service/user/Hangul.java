@@ -0,0 +1,99 @@
+package com.sayup.SayUp.service.user;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 한글 검색 키 변환
+ * 완성형 음절을 자판 입력 순서대로 자모로 분해하여 입력 중인 글자("김ㅊ", "김처")도 접두사로 비교할 수 있게 하고,
+ * 초성만 입력한 검색어("ㄱㅊㅅ")를 위한 초성 문자열을 만든다.
+ */
+public final class Hangul {
+
+    private static final char SYLLABLE_BASE = 0xAC00;
+    private static final char SYLLABLE_LAST = 0xD7A3;
+
+    private static final String CHOSEONG = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+
+    // 겹모음/겹받침은 두 번 입력하므로 두 자모로 분해
+    private static final String[] JUNGSEONG = {
+            "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ", "ㅗㅐ", "ㅗㅣ", "ㅛ", "ㅜ",
+            "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"
+    };
+
+    private static final String[] JONGSEONG = {
+            "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ",
+            "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+
+    // 단독으로 입력된 겹자모 (호환 자모)
+    private static final Map<Character, String> COMPOUND_JAMO = new HashMap<>();
+
+    static {
+        String compounds = "ㄳㄵㄶㄺㄻㄼㄽㄾㄿㅀㅄ";
+        String[] parts = {"ㄱㅅ", "ㄴㅈ", "ㄴㅎ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅂㅅ"};
+        for (int i = 0; i < parts.length; i++) {
+            COMPOUND_JAMO.put(compounds.charAt(i), parts[i]);
+        }
+        String vowels = "ㅘㅙㅚㅝㅞㅟㅢ";
+        String[] vowelParts = {"ㅗㅏ", "ㅗㅐ", "ㅗㅣ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅡㅣ"};
+        for (int i = 0; i < vowelParts.length; i++) {
+            COMPOUND_JAMO.put(vowels.charAt(i), vowelParts[i]);
+        }
+    }
+
+    private Hangul() {
+    }
+
+    /**
+     * 자모 분해 (한글 외 문자는 소문자로 그대로 유지)
+     * 예: "김철수" -> "ㄱㅣㅁㅊㅓㄹㅅㅜ"
+     */
+    public static String decompose(String text) {
+        StringBuilder builder = new StringBuilder(text.length() * 3);
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (isSyllable(c)) {
+                int index = c - SYLLABLE_BASE;
+                builder.append(CHOSEONG.charAt(index / 588))
+                        .append(JUNGSEONG[(index % 588) / 28])
+                        .append(JONGSEONG[index % 28]);
+            } else if (COMPOUND_JAMO.containsKey(c)) {
+                builder.append(COMPOUND_JAMO.get(c));
+            } else {
+                builder.append(Character.toLowerCase(c));
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * 초성 문자열 (한글 외 문자는 소문자로 그대로 유지)
+     * 예: "김철수" -> "ㄱㅊㅅ"
+     */
+    public static String choseong(String text) {
+        StringBuilder builder = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            builder.append(isSyllable(c)
+                    ? CHOSEONG.charAt((c - SYLLABLE_BASE) / 588)
+                    : Character.toLowerCase(c));
+        }
+        return builder.toString();
+    }
+
+    public static boolean containsSyllable(String text) {
+        return text.chars().anyMatch(c -> isSyllable((char) c));
+    }
+
+    /**
+     * 초성(자음)으로만 이루어진 검색어인지 확인
+     */
+    public static boolean isChoseongOnly(String text) {
+        return !text.isEmpty() && text.chars().allMatch(c -> CHOSEONG.indexOf(c) >= 0);
+    }
+
+    private static boolean isSyllable(char c) {
+        return c >= SYLLABLE_BASE && c <= SYLLABLE_LAST;
+    }
+}
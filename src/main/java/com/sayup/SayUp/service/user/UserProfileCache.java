@@ -0,0 +1,117 @@
+package com.sayup.SayUp.service.user;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sayup.SayUp.dto.user.UserProfileDTO;
+import com.sayup.SayUp.event.UserAccountChangedEvent;
+import com.sayup.SayUp.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * userId 기준 화면 표시용 프로필 캐시
+ * 여러 사용자를 한 번에 조회할 때 캐시에 없는 사용자만 IN 쿼리 한 번으로 적재한다.
+ * 이름/활성 여부가 바뀌면 커밋 이후 로컬 항목을 갱신하고 Redis Pub/Sub으로 다른 노드에도 전파한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserProfileCache implements MessageListener {
+
+    private static final String CHANNEL = "user-profile:changed";
+
+    private final UserRepository userRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${user.profile-cache.max-size:100000}")
+    private long maxSize;
+
+    @Value("${user.profile-cache.ttl:600000}")
+    private long ttl;
+
+    private Cache<Long, UserProfileDTO> profiles;
+
+    @PostConstruct
+    public void init() {
+        this.profiles = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMillis(ttl))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, profiles, "user-profile");
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    /**
+     * 프로필 일괄 조회 (존재하지 않는 사용자는 결과에서 제외)
+     */
+    public Map<Long, UserProfileDTO> getAll(Collection<Long> userIds) {
+        return profiles.getAll(userIds, missing -> userRepository.findProfilesByIds(List.copyOf(missing)).stream()
+                .collect(Collectors.toMap(UserProfileDTO::getUserId, Function.identity())));
+    }
+
+    /**
+     * 사용자 변경 커밋 이후 반영 (이름, 활성 여부가 바뀐 경우만 전파)
+     * 이전 값과 비교하므로 이 노드에 캐시되지 않은 사용자의 무관한 변경(TTS 벡터 저장 등)은 발행하지 않는다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserAccountChanged(UserAccountChangedEvent event) {
+        if (Objects.equals(event.getUsername(), event.getPreviousUsername()) && event.isActive() == event.isPreviousActive()) {
+            return;
+        }
+        profiles.put(event.getUserId(), new UserProfileDTO(event.getUserId(), event.getUsername(), event.isActive()));
+
+        try {
+            // 형식: userId:active:username (username에 ':'가 있을 수 있으므로 마지막에 둠)
+            redisTemplate.convertAndSend(CHANNEL,
+                    event.getUserId() + ":" + event.isActive() + ":" + (event.getUsername() != null ? event.getUsername() : ""));
+        } catch (Exception e) {
+            // 다른 노드는 TTL 만료로 정리됨
+            log.warn("Failed to publish user profile change for user {}: {}", event.getUserId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 다른 노드에서 발행한 프로필 변경 수신
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split(":", 3);
+        if (parts.length != 3) {
+            log.warn("Ignoring malformed user profile message");
+            return;
+        }
+
+        try {
+            Long userId = Long.valueOf(parts[0]);
+            profiles.put(userId, new UserProfileDTO(userId, parts[2].isEmpty() ? null : parts[2],
+                    Boolean.parseBoolean(parts[1])));
+        } catch (NumberFormatException e) {
+            log.warn("Ignoring malformed user profile message: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,291 @@
+package com.sayup.SayUp.service.user;
+
+import com.sayup.SayUp.event.UserAccountChangedEvent;
+import com.sayup.SayUp.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Collectors;
+
+/**
+ * 사용자 이름/이메일 아이디 자동완성 색인 (메모리)
+ * 검색 키(자모 분해 문자열, 초성 문자열)를 정렬 맵에 보관하여 접두사 범위 조회로 찾는다.
+ * 시작 시 활성 사용자 전체를 적재하고, 이후 가입/수정/비활성화 커밋 시 해당 사용자만 갱신하며
+ * 변경된 사용자 ID를 Redis Pub/Sub으로 전파해 다른 노드는 DB에서 다시 읽어 반영한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserSearchIndex implements MessageListener {
+
+    private static final String CHANNEL = "user-search:changed";
+    private static final int SCAN_BATCH_SIZE = 5000;
+
+    private final UserRepository userRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    // 자모 분해 키 -> userId 집합
+    private final NavigableMap<String, Set<Long>> jamoIndex = new ConcurrentSkipListMap<>();
+
+    // 초성 키 -> userId 집합
+    private final NavigableMap<String, Set<Long>> choseongIndex = new ConcurrentSkipListMap<>();
+
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+
+    @Getter
+    @AllArgsConstructor
+    public static class Match {
+        private final Long userId;
+        private final String username;
+        private final boolean friend;
+    }
+
+    @Getter
+    private static class Entry {
+        private final Long userId;
+        private final String username;
+        private final String email;
+        private final List<String> jamoKeys;
+        private final List<String> choseongKeys;
+
+        Entry(Long userId, String username, String email) {
+            this.userId = userId;
+            this.username = username;
+            this.email = email;
+
+            List<String> terms = new ArrayList<>();
+            if (username != null && !username.isBlank()) {
+                addTerms(terms, username.trim().toLowerCase(), "\\s+");
+            }
+            if (email != null && email.indexOf('@') > 0) {
+                addTerms(terms, email.substring(0, email.indexOf('@')).toLowerCase(), "[._+-]");
+            }
+
+            this.jamoKeys = terms.stream().map(Hangul::decompose).distinct().toList();
+            this.choseongKeys = terms.stream()
+                    .filter(Hangul::containsSyllable)
+                    .map(Hangul::choseong)
+                    .distinct()
+                    .toList();
+        }
+
+        boolean matches(String key, boolean choseongOnly) {
+            return (choseongOnly ? choseongKeys : jamoKeys).stream().anyMatch(term -> term.startsWith(key));
+        }
+
+        // 전체 문자열과 중간 단어(이름의 성 뒤, 이메일 구분자 뒤)도 접두사로 찾을 수 있게 함께 색인
+        private static void addTerms(List<String> terms, String text, String separator) {
+            terms.add(text);
+            for (String token : text.split(separator)) {
+                if (!token.isEmpty() && !token.equals(text)) {
+                    terms.add(token);
+                }
+            }
+        }
+    }
+
+    @PostConstruct
+    public void init() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    /**
+     * 애플리케이션 시작 시 활성 사용자 전체 적재 (ID 순 키셋 배치)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long start = System.currentTimeMillis();
+        long afterId = 0;
+        int count = 0;
+        try {
+            while (true) {
+                List<UserRepository.SearchProfile> batch =
+                        userRepository.findActiveSearchProfiles(afterId, PageRequest.of(0, SCAN_BATCH_SIZE));
+                for (UserRepository.SearchProfile profile : batch) {
+                    put(profile.getUserId(), profile.getUsername(), profile.getEmail());
+                }
+                count += batch.size();
+                if (batch.size() < SCAN_BATCH_SIZE) {
+                    break;
+                }
+                afterId = batch.get(batch.size() - 1).getUserId();
+            }
+            log.info("User search index loaded with {} users in {} ms", count, System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.warn("Failed to load user search index: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 자동완성 검색
+     * 친구 중 일치하는 사용자를 먼저, 이어서 나머지 사용자를 검색 키 순서(짧고 정확한 일치 우선)로 최대 limit명 반환한다.
+     *
+     * @param query     접두사, 초성("ㄱㅊ") 또는 입력 중인 음절("김처")
+     * @param friendIds 검색하는 사용자의 친구 ID
+     * @param excludeId 결과에서 제외할 사용자 (검색하는 사용자 본인)
+     */
+    public List<Match> search(String query, Collection<Long> friendIds, Long excludeId, int limit) {
+        String normalized = query == null ? "" : query.trim().toLowerCase();
+        if (normalized.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        boolean choseongOnly = Hangul.isChoseongOnly(normalized);
+        String key = choseongOnly ? normalized : Hangul.decompose(normalized);
+        NavigableMap<String, Set<Long>> index = choseongOnly ? choseongIndex : jamoIndex;
+
+        // 친구 수는 적으므로 색인 대신 각 친구의 키를 직접 비교
+        List<Match> matches = friendIds.stream()
+                .map(entries::get)
+                .filter(Objects::nonNull)
+                .filter(entry -> entry.matches(key, choseongOnly))
+                .sorted(Comparator.comparing(Entry::getUsername, Comparator.nullsLast(Comparator.naturalOrder())))
+                .limit(limit)
+                .map(entry -> new Match(entry.getUserId(), entry.getUsername(), true))
+                .collect(Collectors.toCollection(ArrayList::new));
+
+        Set<Long> seen = new HashSet<>(friendIds);
+        seen.add(excludeId);
+        for (Set<Long> userIds : index.subMap(key, true, key + Character.MAX_VALUE, false).values()) {
+            for (Long userId : userIds) {
+                if (matches.size() >= limit) {
+                    return matches;
+                }
+                Entry entry = entries.get(userId);
+                if (entry != null && seen.add(userId)) {
+                    matches.add(new Match(userId, entry.getUsername(), false));
+                }
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * 사용자명이 정확히 일치하는 활성 사용자 (여러 명이면 ID가 가장 작은 사용자)
+     */
+    public Long findByUsername(String username) {
+        if (username == null || username.isBlank()) {
+            return null;
+        }
+
+        String normalized = username.trim();
+        Set<Long> candidates = jamoIndex.get(Hangul.decompose(normalized.toLowerCase()));
+        if (candidates == null) {
+            return null;
+        }
+        return candidates.stream()
+                .map(entries::get)
+                .filter(entry -> entry != null && normalized.equals(entry.getUsername()))
+                .map(Entry::getUserId)
+                .min(Long::compare)
+                .orElse(null);
+    }
+
+    /**
+     * 사용자 가입/수정/비활성화 커밋 이후 반영 (이름, 이메일, 활성 여부가 바뀐 경우만 전파)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserAccountChanged(UserAccountChangedEvent event) {
+        Entry current = entries.get(event.getUserId());
+        boolean unchanged = event.isActive()
+                ? current != null && Objects.equals(current.getUsername(), event.getUsername())
+                        && Objects.equals(current.getEmail(), event.getEmail())
+                : current == null;
+        if (unchanged) {
+            return;
+        }
+
+        if (event.isActive()) {
+            put(event.getUserId(), event.getUsername(), event.getEmail());
+        } else {
+            remove(event.getUserId());
+        }
+
+        try {
+            redisTemplate.convertAndSend(CHANNEL, String.valueOf(event.getUserId()));
+        } catch (Exception e) {
+            // 다른 노드는 재시작 시 전체 적재로 정리됨
+            log.warn("Failed to publish user search index change for user {}: {}", event.getUserId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 다른 노드에서 변경된 사용자를 DB에서 다시 읽어 반영
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            Long userId = Long.valueOf(new String(message.getBody(), StandardCharsets.UTF_8));
+            userRepository.findById(userId)
+                    .filter(user -> Boolean.TRUE.equals(user.getIsActive()))
+                    .ifPresentOrElse(user -> put(userId, user.getUsername(), user.getEmail()), () -> remove(userId));
+        } catch (NumberFormatException e) {
+            log.warn("Ignoring malformed user search index message: {}", e.getMessage());
+        }
+    }
+
+    void put(Long userId, String username, String email) {
+        Entry entry = new Entry(userId, username, email);
+        Entry previous = entries.put(userId, entry);
+        if (previous != null) {
+            unindex(previous);
+        }
+        entry.getJamoKeys().forEach(key -> index(jamoIndex, key, userId));
+        entry.getChoseongKeys().forEach(key -> index(choseongIndex, key, userId));
+    }
+
+    void remove(Long userId) {
+        Entry previous = entries.remove(userId);
+        if (previous != null) {
+            unindex(previous);
+        }
+    }
+
+    private void unindex(Entry entry) {
+        entry.getJamoKeys().forEach(key -> unindex(jamoIndex, key, entry.getUserId()));
+        entry.getChoseongKeys().forEach(key -> unindex(choseongIndex, key, entry.getUserId()));
+    }
+
+    private static void index(NavigableMap<String, Set<Long>> index, String key, Long userId) {
+        // 빈 집합 제거와 엇갈리지 않도록 compute 안에서 추가
+        index.compute(key, (k, userIds) -> {
+            Set<Long> updated = userIds != null ? userIds : ConcurrentHashMap.newKeySet();
+            updated.add(userId);
+            return updated;
+        });
+    }
+
+    private static void unindex(NavigableMap<String, Set<Long>> index, String key, Long userId) {
+        index.computeIfPresent(key, (k, userIds) -> {
+            userIds.remove(userId);
+            return userIds.isEmpty() ? null : userIds;
+        });
+    }
+}
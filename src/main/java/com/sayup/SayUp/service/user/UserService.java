@@ -1,14 +1,21 @@
 package com.sayup.SayUp.service.user;
 
+import com.sayup.SayUp.dto.friend.UserSearchResultDTO;
+import com.sayup.SayUp.dto.user.UserProfileDTO;
 import com.sayup.SayUp.entity.user.User;
 import com.sayup.SayUp.repository.UserRepository;
+import com.sayup.SayUp.security.CustomUserDetails;
+import com.sayup.SayUp.service.friend.FriendIdCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 @Slf4j
 @Service
@@ -16,7 +23,13 @@ import java.util.List;
 @Transactional
 public class UserService {
 
+    private static final int MAX_AUTOCOMPLETE_SIZE = 50;
+    private static final int MAX_PROFILE_BATCH_SIZE = 100;
+
     private final UserRepository userRepository;
+    private final UserSearchIndex userSearchIndex;
+    private final UserProfileCache userProfileCache;
+    private final FriendIdCache friendIdCache;
 
     /**
      * 이메일로 사용자 ID 조회
@@ -36,6 +49,7 @@ public class UserService {
 
     /**
      * 이메일 또는 사용자명으로 사용자 ID 조회
+     * 이메일은 유니크 인덱스로, 사용자명은 메모리 검색 색인으로 정확히 일치하는 사용자를 찾는다.
      */
     @Transactional(readOnly = true)
     public Long findUserIdByEmailOrUsername(String emailOrUsername) {
@@ -44,18 +58,59 @@ public class UserService {
         }
 
         log.debug("Finding user ID by email or username: {}", emailOrUsername);
-        
-        List<User> users = userRepository.findByEmailOrUsername(emailOrUsername, emailOrUsername);
-        if (users.isEmpty()) {
+
+        if (emailOrUsername.contains("@")) {
+            User user = userRepository.findByEmail(emailOrUsername)
+                    .orElseThrow(() -> new UsernameNotFoundException("해당 이메일 또는 사용자명으로 사용자를 찾을 수 없습니다: " + emailOrUsername));
+            if (!user.getIsActive()) {
+                throw new UsernameNotFoundException("비활성 사용자입니다: " + emailOrUsername);
+            }
+            return user.getUserId();
+        }
+
+        // 색인에는 활성 사용자만 있음
+        Long userId = userSearchIndex.findByUsername(emailOrUsername);
+        if (userId == null) {
             throw new UsernameNotFoundException("해당 이메일 또는 사용자명으로 사용자를 찾을 수 없습니다: " + emailOrUsername);
         }
-        
-        User user = users.get(0);
-        if (!user.getIsActive()) {
-            throw new UsernameNotFoundException("비활성 사용자입니다: " + emailOrUsername);
+        return userId;
+    }
+
+    /**
+     * 사용자 자동완성 (이름/이메일 아이디 접두사, 한글 초성, 입력 중인 음절 지원, 친구 우선)
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public List<UserSearchResultDTO> autocomplete(CustomUserDetails userDetails, String query, int limit) {
+        if (userDetails == null) {
+            throw new IllegalArgumentException("사용자 정보는 null일 수 없습니다.");
         }
-        
-        return user.getUserId();
+
+        int size = Math.min(Math.max(limit, 1), MAX_AUTOCOMPLETE_SIZE);
+        Long userId = userDetails.getUserId();
+        return userSearchIndex.search(query, friendIdCache.getFriendIds(userId), userId, size).stream()
+                .map(match -> new UserSearchResultDTO(match.getUserId(), match.getUsername(), match.isFriend()))
+                .toList();
+    }
+
+    /**
+     * 여러 사용자의 화면 표시용 프로필 조회 (요청 순서 유지, 존재하지 않는 사용자 제외)
+     * 캐시에 없는 사용자만 IN 쿼리 한 번으로 읽으므로 요청당 쿼리는 최대 1회다.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public List<UserProfileDTO> getProfiles(List<Long> userIds) {
+        if (userIds == null || userIds.isEmpty()) {
+            return List.of();
+        }
+        if (userIds.size() > MAX_PROFILE_BATCH_SIZE) {
+            throw new IllegalArgumentException("한 번에 조회할 수 있는 사용자는 최대 " + MAX_PROFILE_BATCH_SIZE + "명입니다.");
+        }
+
+        List<Long> distinctIds = userIds.stream().filter(Objects::nonNull).distinct().toList();
+        Map<Long, UserProfileDTO> profiles = userProfileCache.getAll(distinctIds);
+        return distinctIds.stream()
+                .map(profiles::get)
+                .filter(Objects::nonNull)
+                .toList();
     }
 
     /**
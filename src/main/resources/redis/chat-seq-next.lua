@@ -0,0 +1,13 @@
+-- 채팅방 다음 메시지 순번
+-- KEYS[1]: chat:room:seq:{roomId}
+-- ARGV[1]: (선택) 키가 없을 때 시작할 마지막 순번
+-- 반환: 부여한 순번, 키가 없고 ARGV[1]도 없으면 -1 (호출자가 마지막 순번을 구해 다시 호출)
+-- 키가 없는 상태에서 INCR하면 1부터 다시 시작하므로, 키 생성과 증가를 한 번에 수행
+if #ARGV == 0 then
+    if redis.call('EXISTS', KEYS[1]) == 0 then
+        return -1
+    end
+else
+    redis.call('SET', KEYS[1], ARGV[1], 'NX')
+end
+return redis.call('INCR', KEYS[1])
@@ -0,0 +1,19 @@
+-- 친구 ID 집합 적재 (이미 적재된 집합은 덮어쓰지 않음)
+-- KEYS[1]: friends:{userId}, KEYS[2]: friends:gen:{userId}
+-- ARGV[1]: TTL (ms), ARGV[2]: DB 조회 전에 읽은 세대 값, ARGV[3..]: 빈 집합 표시용 센티널과 친구 userId 목록
+-- 반환: 1 적재, 0 이미 존재, -1 조회 이후 변경됨 (적재하지 않음)
+if redis.call('EXISTS', KEYS[1]) == 1 then
+    return 0
+end
+-- DB 조회와 적재 사이에 수락/삭제가 커밋되면 세대가 바뀌므로 오래된 목록을 캐시하지 않음
+local generation = redis.call('GET', KEYS[2]) or '0'
+if generation ~= ARGV[2] then
+    return -1
+end
+-- unpack 인자 수 제한을 넘지 않도록 나누어 추가
+local chunk = 5000
+for i = 3, #ARGV, chunk do
+    redis.call('SADD', KEYS[1], unpack(ARGV, i, math.min(i + chunk - 1, #ARGV)))
+end
+redis.call('PEXPIRE', KEYS[1], ARGV[1])
+return 1
@@ -0,0 +1,16 @@
+-- 친구 ID 집합 증분 갱신 (캐시된 집합에만 반영)
+-- KEYS[1]: friends:{userId}, KEYS[2]: friends:gen:{userId}
+-- ARGV[1]: add | remove, ARGV[2]: 친구 userId, ARGV[3]: TTL (ms)
+-- 반환: 1 반영, 0 캐시되지 않은 사용자 (다음 조회 시 DB에서 적재)
+-- 캐시 여부와 관계없이 세대를 올려 진행 중인 적재가 변경 이전 목록을 저장하지 못하게 함
+redis.call('INCR', KEYS[2])
+redis.call('PEXPIRE', KEYS[2], ARGV[3])
+if redis.call('EXISTS', KEYS[1]) == 0 then
+    return 0
+end
+if ARGV[1] == 'add' then
+    redis.call('SADD', KEYS[1], ARGV[2])
+else
+    redis.call('SREM', KEYS[1], ARGV[2])
+end
+return 1
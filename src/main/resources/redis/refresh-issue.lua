@@ -0,0 +1,6 @@
+-- 새 리프레시 토큰 패밀리 등록
+-- KEYS[1]: refresh:family:{familyId}
+-- ARGV[1]: 토큰 ID, ARGV[2]: 사용자 ID, ARGV[3]: TTL (ms)
+redis.call('HSET', KEYS[1], 'current', ARGV[1], 'user', ARGV[2])
+redis.call('PEXPIRE', KEYS[1], ARGV[3])
+return 1
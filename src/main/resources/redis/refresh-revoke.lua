@@ -0,0 +1,8 @@
+-- 리프레시 토큰 패밀리 폐기
+-- KEYS[1]: refresh:family:{familyId}
+-- 반환: 1 폐기, 0 알 수 없는(만료된) 패밀리
+if redis.call('EXISTS', KEYS[1]) == 0 then
+    return 0
+end
+redis.call('HSET', KEYS[1], 'revoked', '1')
+return 1
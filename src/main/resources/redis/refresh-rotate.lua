@@ -0,0 +1,19 @@
+-- 리프레시 토큰 교체 및 재사용 감지
+-- KEYS[1]: refresh:family:{familyId}
+-- ARGV[1]: 제시된 토큰 ID, ARGV[2]: 새 토큰 ID, ARGV[3]: TTL (ms)
+-- 반환: 1 교체 성공, 0 알 수 없는(만료된) 패밀리, -1 폐기된 패밀리, -2 재사용 감지(패밀리 폐기)
+local current = redis.call('HGET', KEYS[1], 'current')
+if not current then
+    return 0
+end
+if redis.call('HEXISTS', KEYS[1], 'revoked') == 1 then
+    return -1
+end
+if current ~= ARGV[1] then
+    -- 이미 교체된 토큰의 재사용: 탈취로 간주하여 패밀리 전체 폐기 (기록은 TTL까지 유지)
+    redis.call('HSET', KEYS[1], 'revoked', '1')
+    return -2
+end
+redis.call('HSET', KEYS[1], 'current', ARGV[2])
+redis.call('PEXPIRE', KEYS[1], ARGV[3])
+return 1
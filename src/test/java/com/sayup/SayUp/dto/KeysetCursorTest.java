@@ -0,0 +1,39 @@
+package com.sayup.SayUp.dto;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KeysetCursorTest {
+
+    @Test
+    void decode_ShouldRestoreEncodedPositionWithSubMillisecondPrecision() {
+        // Given
+        KeysetCursor cursor = new KeysetCursor(LocalDateTime.of(2026, 3, 1, 12, 30, 15, 123_456_000), 42L);
+
+        // When
+        KeysetCursor decoded = KeysetCursor.decode(cursor.encode());
+
+        // Then
+        assertEquals(cursor.getTime(), decoded.getTime());
+        assertEquals(42L, decoded.getId());
+    }
+
+    @Test
+    void decode_WithBlankCursor_ShouldReturnFirstPage() {
+        assertSame(KeysetCursor.FIRST, KeysetCursor.decode(null));
+        assertSame(KeysetCursor.FIRST, KeysetCursor.decode(""));
+    }
+
+    @Test
+    void decode_WithMalformedCursor_ShouldThrowException() {
+        IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> KeysetCursor.decode("not-a-cursor")
+        );
+
+        assertEquals("잘못된 커서입니다.", exception.getMessage());
+    }
+}
@@ -0,0 +1,91 @@
+package com.sayup.SayUp.kakao.service;
+
+import com.sayup.SayUp.kakao.dto.KakaoUserInfoResponseDto;
+import com.sayup.SayUp.kakao.exception.KakaoApiException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.security.KeyPair;
+import java.security.interfaces.RSAPublicKey;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KakaoOidcVerifierTest {
+
+    private static final String CLIENT_ID = "test-kakao-client-id";
+    private static final String ISSUER = "https://kauth.kakao.com";
+
+    private StubJwksServer jwksServer;
+    private KeyPair keyPair;
+    private KakaoOidcVerifier verifier;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        keyPair = Keys.keyPairFor(SignatureAlgorithm.RS256);
+        jwksServer = new StubJwksServer();
+        jwksServer.publish("kakao-key-1", (RSAPublicKey) keyPair.getPublic());
+        verifier = new KakaoOidcVerifier(CLIENT_ID, ISSUER, jwksServer.jwksUri(), WebClient.create());
+    }
+
+    @AfterEach
+    void tearDown() {
+        jwksServer.close();
+    }
+
+    @Test
+    void verify_WithValidIdToken_ShouldReturnUserInfoWithoutUserInfoCall() {
+        // Given
+        String idToken = idToken("kakao-key-1", CLIENT_ID);
+
+        // When
+        KakaoUserInfoResponseDto first = verifier.verify(idToken);
+        KakaoUserInfoResponseDto second = verifier.verify(idToken);
+
+        // Then
+        assertEquals(12345L, first.getId());
+        assertEquals("kakao@example.com", first.getEmail());
+        assertEquals("카카오", first.getNickname());
+        assertTrue(first.isEmailVerified());
+        assertEquals(12345L, second.getId());
+        assertEquals(1, jwksServer.requestCount());
+    }
+
+    @Test
+    void verify_WithOtherAudience_ShouldThrowKakaoApiException() {
+        // Given
+        String idToken = idToken("kakao-key-1", "other-client-id");
+
+        // When & Then
+        assertThrows(KakaoApiException.class, () -> verifier.verify(idToken));
+    }
+
+    @Test
+    void verify_WithUnknownKid_ShouldThrowKakaoApiException() {
+        // Given
+        String idToken = idToken("unknown-key", CLIENT_ID);
+
+        // When & Then
+        assertThrows(KakaoApiException.class, () -> verifier.verify(idToken));
+    }
+
+    private String idToken(String kid, String audience) {
+        Date now = new Date();
+        return Jwts.builder()
+                .setHeaderParam("kid", kid)
+                .setIssuer(ISSUER)
+                .setAudience(audience)
+                .setSubject("12345")
+                .claim("email", "kakao@example.com")
+                .claim("nickname", "카카오")
+                .setIssuedAt(now)
+                .setExpiration(new Date(now.getTime() + 3600_000))
+                .signWith(keyPair.getPrivate(), SignatureAlgorithm.RS256)
+                .compact();
+    }
+}
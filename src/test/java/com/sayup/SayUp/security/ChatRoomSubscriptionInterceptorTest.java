@@ -0,0 +1,71 @@
+package com.sayup.SayUp.security;
+
+import com.sayup.SayUp.service.chat.ChatRoomService;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.security.access.AccessDeniedException;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class ChatRoomSubscriptionInterceptorTest {
+
+    private final ChatRoomService chatRoomService = mock(ChatRoomService.class);
+    private final ChatRoomSubscriptionInterceptor interceptor = new ChatRoomSubscriptionInterceptor(chatRoomService);
+    private final MessageChannel channel = mock(MessageChannel.class);
+    private final Map<String, Object> sessionAttributes = new HashMap<>();
+
+    private Message<byte[]> subscribe(String destination) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        accessor.setDestination(destination);
+        accessor.setUser(new StompPrincipal(1L, "user@example.com"));
+        accessor.setSessionAttributes(sessionAttributes);
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    @Test
+    void preSend_WithWildcardDestination_ShouldRejectWithoutJoiningRoom() {
+        // Given - 브로커가 패턴으로 매칭해 모든 채팅방 메시지를 받게 되는 구독
+        for (String destination : new String[]{"/topic/**", "/topic/*/5", "/topic/chat-rooms/?", "/topic/chat-rooms/{id}"}) {
+            Message<byte[]> message = subscribe(destination);
+
+            // When & Then
+            assertThrows(AccessDeniedException.class, () -> interceptor.preSend(message, channel), destination);
+        }
+        verify(chatRoomService, never()).joinRoom(any(), any());
+        assertTrue(ChatRoomSubscriptionInterceptor.joinedRooms(sessionAttributes).isEmpty());
+    }
+
+    @Test
+    void preSend_WithNonRoomTopicOrDirectQueue_ShouldReject() {
+        // When & Then
+        assertThrows(AccessDeniedException.class, () -> interceptor.preSend(subscribe("/topic/chat-rooms"), channel));
+        assertThrows(AccessDeniedException.class, () -> interceptor.preSend(subscribe("/topic/chat-rooms/5/extra"), channel));
+        assertThrows(AccessDeniedException.class, () -> interceptor.preSend(subscribe("/queue/chat-acks"), channel));
+        verify(chatRoomService, never()).joinRoom(any(), any());
+    }
+
+    @Test
+    void preSend_WithExactRoomTopic_ShouldCheckParticipantAndRecordRoom() {
+        // Given
+        Message<byte[]> message = subscribe("/topic/chat-rooms/5");
+
+        // When
+        Message<?> result = interceptor.preSend(message, channel);
+
+        // Then
+        assertSame(message, result);
+        verify(chatRoomService).joinRoom(5L, 1L);
+        assertTrue(ChatRoomSubscriptionInterceptor.joinedRooms(sessionAttributes).contains(5L));
+        assertSame(message, interceptor.preSend(subscribe("/user/queue/friends"), channel));
+    }
+}
@@ -0,0 +1,96 @@
+package com.sayup.SayUp.security;
+
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.security.KeyPair;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtKeyRingTest {
+
+    private static final String LEGACY_SECRET = "testSecretKeyForTestingPurposesOnlyDoNotUseInProduction";
+
+    @Test
+    void resolveSigningKey_DuringRotation_ShouldVerifyTokensFromAllKeys() {
+        // Given
+        KeyPair keyPair = Keys.keyPairFor(SignatureAlgorithm.ES256);
+        JwtKeyRing keyRing = createKeyRing("es-1", esKey("es-1", keyPair));
+        JwtParser parser = Jwts.parserBuilder().setSigningKeyResolver(keyRing).build();
+
+        String legacyToken = Jwts.builder()
+                .setSubject("legacy@example.com")
+                .signWith(Keys.hmacShaKeyFor(LEGACY_SECRET.getBytes()), SignatureAlgorithm.HS256)
+                .compact();
+        JwtKeyRing.SigningKey activeKey = keyRing.getActiveKey();
+        String newToken = Jwts.builder()
+                .setHeaderParam("kid", activeKey.getKid())
+                .setSubject("new@example.com")
+                .signWith(activeKey.getSigningKey(), activeKey.getAlgorithm())
+                .compact();
+
+        // When & Then
+        assertEquals("legacy@example.com", parser.parseClaimsJws(legacyToken).getBody().getSubject());
+        assertEquals("new@example.com", parser.parseClaimsJws(newToken).getBody().getSubject());
+    }
+
+    @Test
+    void resolveSigningKey_WithUnknownKid_ShouldReject() {
+        // Given
+        JwtKeyRing keyRing = createKeyRing(null);
+        JwtParser parser = Jwts.parserBuilder().setSigningKeyResolver(keyRing).build();
+        String token = Jwts.builder()
+                .setHeaderParam("kid", "retired")
+                .setSubject("test@example.com")
+                .signWith(Keys.hmacShaKeyFor(LEGACY_SECRET.getBytes()), SignatureAlgorithm.HS256)
+                .compact();
+
+        // When & Then
+        assertThrows(UnsupportedJwtException.class, () -> parser.parseClaimsJws(token));
+    }
+
+    @Test
+    void toJwks_ShouldPublishOnlyPublicKeys() {
+        // Given
+        KeyPair keyPair = Keys.keyPairFor(SignatureAlgorithm.ES256);
+        JwtKeyRing keyRing = createKeyRing("es-1", esKey("es-1", keyPair));
+
+        // When
+        List<?> keys = (List<?>) keyRing.toJwks().get("keys");
+
+        // Then
+        assertEquals(1, keys.size());
+        Map<?, ?> jwk = (Map<?, ?>) keys.get(0);
+        assertEquals("es-1", jwk.get("kid"));
+        assertEquals("ES256", jwk.get("alg"));
+        assertFalse(jwk.containsKey("d"));
+    }
+
+    private static JwtKeyRing createKeyRing(String activeKid, JwtKeyRingProperties.KeyEntry... entries) {
+        JwtKeyRingProperties properties = new JwtKeyRingProperties();
+        properties.setActiveKid(activeKid);
+        properties.setKeys(List.of(entries));
+
+        JwtKeyRing keyRing = new JwtKeyRing(properties);
+        ReflectionTestUtils.setField(keyRing, "legacySecret", LEGACY_SECRET);
+        keyRing.init();
+        return keyRing;
+    }
+
+    private static JwtKeyRingProperties.KeyEntry esKey(String kid, KeyPair keyPair) {
+        JwtKeyRingProperties.KeyEntry entry = new JwtKeyRingProperties.KeyEntry();
+        entry.setKid(kid);
+        entry.setAlgorithm("ES256");
+        entry.setPrivateKey(Base64.getEncoder().encodeToString(keyPair.getPrivate().getEncoded()));
+        entry.setPublicKey(Base64.getEncoder().encodeToString(keyPair.getPublic().getEncoded()));
+        return entry;
+    }
+}
@@ -3,11 +3,18 @@ package com.sayup.SayUp.service;
 import com.sayup.SayUp.dto.auth.AuthRequestDTO;
 import com.sayup.SayUp.dto.auth.AuthResponseDTO;
 import com.sayup.SayUp.entity.user.User;
-import com.sayup.SayUp.kakao.service.KakaoService;
+import com.sayup.SayUp.kakao.dto.KakaoUserInfoResponseDto;
+import com.sayup.SayUp.security.CustomUserDetails;
+import com.sayup.SayUp.repository.SocialIdentityRepository;
 import com.sayup.SayUp.repository.UserRepository;
 import com.sayup.SayUp.security.JwtTokenProvider;
+import com.sayup.SayUp.security.PrincipalCache;
+import com.sayup.SayUp.security.VerifiedToken;
 import com.sayup.SayUp.service.auth.AuthService;
+import com.sayup.SayUp.service.auth.PasswordHashingService;
+import com.sayup.SayUp.service.auth.RefreshTokenStore;
 import com.sayup.SayUp.service.auth.TokenBlacklistService;
+import io.jsonwebtoken.ExpiredJwtException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -15,13 +22,17 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.authentication.BadCredentialsException;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 
 import java.util.Optional;
+import java.util.function.Function;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -31,7 +42,7 @@ class AuthServiceTest {
     private UserRepository userRepository;
 
     @Mock
-    private PasswordEncoder passwordEncoder;
+    private PasswordHashingService passwordHashingService;
 
     @Mock
     private JwtTokenProvider jwtTokenProvider;
@@ -40,7 +51,13 @@ class AuthServiceTest {
     private TokenBlacklistService tokenBlacklistService;
 
     @Mock
-    private KakaoService kakaoService;
+    private SocialIdentityRepository socialIdentityRepository;
+
+    @Mock
+    private PrincipalCache principalCache;
+
+    @Mock
+    private RefreshTokenStore refreshTokenStore;
 
     @InjectMocks
     private AuthService authService;
@@ -74,12 +91,10 @@ class AuthServiceTest {
     void register_WithNewEmail_ShouldRegisterSuccessfully() {
         // Given
         when(userRepository.existsByEmail(anyString())).thenReturn(false);
-        when(passwordEncoder.encode(anyString())).thenReturn("encodedPassword");
+        when(passwordHashingService.encode(anyString())).thenReturn("encodedPassword");
         when(userRepository.save(any(User.class))).thenReturn(user);
-        when(userRepository.findByEmail(anyString())).thenReturn(Optional.of(user));
-        when(passwordEncoder.matches(anyString(), anyString())).thenReturn(true);
-        when(jwtTokenProvider.createToken(any())).thenReturn("accessToken");
-        when(jwtTokenProvider.createRefreshToken(any())).thenReturn("refreshToken");
+        when(jwtTokenProvider.createAccessToken(any(User.class), anyString())).thenReturn("accessToken");
+        when(jwtTokenProvider.createRefreshToken(any(User.class), anyString(), anyString())).thenReturn("refreshToken");
         when(jwtTokenProvider.getExpirationTime()).thenReturn(3600L);
 
         // When
@@ -90,8 +105,9 @@ class AuthServiceTest {
         assertEquals("accessToken", result.getAccessToken());
         assertEquals("refreshToken", result.getRefreshToken());
         verify(userRepository).existsByEmail(authRequestDTO.getEmail());
-        verify(passwordEncoder).encode(authRequestDTO.getPassword());
+        verify(passwordHashingService).encode(authRequestDTO.getPassword());
         verify(userRepository).save(any(User.class));
+        verify(passwordHashingService, never()).matches(anyString(), anyString());
     }
 
     @Test
@@ -114,9 +130,9 @@ class AuthServiceTest {
     void login_WithValidCredentials_ShouldReturnAuthResponse() {
         // Given
         when(userRepository.findByEmail(anyString())).thenReturn(Optional.of(user));
-        when(passwordEncoder.matches(anyString(), anyString())).thenReturn(true);
-        when(jwtTokenProvider.createToken(any())).thenReturn("accessToken");
-        when(jwtTokenProvider.createRefreshToken(any())).thenReturn("refreshToken");
+        when(passwordHashingService.matches(anyString(), anyString())).thenReturn(true);
+        when(jwtTokenProvider.createAccessToken(any(User.class), anyString())).thenReturn("accessToken");
+        when(jwtTokenProvider.createRefreshToken(any(User.class), anyString(), anyString())).thenReturn("refreshToken");
         when(jwtTokenProvider.getExpirationTime()).thenReturn(3600L);
 
         // When
@@ -127,7 +143,27 @@ class AuthServiceTest {
         assertEquals("accessToken", result.getAccessToken());
         assertEquals("refreshToken", result.getRefreshToken());
         verify(userRepository).findByEmail(authRequestDTO.getEmail());
-        verify(passwordEncoder).matches(authRequestDTO.getPassword(), user.getPassword());
+        verify(passwordHashingService).matches(authRequestDTO.getPassword(), user.getPassword());
+    }
+
+    @Test
+    void login_WithOutdatedHashStrength_ShouldRehashPassword() {
+        // Given
+        when(userRepository.findByEmail(anyString())).thenReturn(Optional.of(user));
+        when(passwordHashingService.matches(anyString(), anyString())).thenReturn(true);
+        when(passwordHashingService.upgradeEncoding("encodedPassword")).thenReturn(true);
+        when(passwordHashingService.encode(authRequestDTO.getPassword())).thenReturn("rehashedPassword");
+        when(jwtTokenProvider.createAccessToken(any(User.class), anyString())).thenReturn("accessToken");
+        when(jwtTokenProvider.createRefreshToken(any(User.class), anyString(), anyString())).thenReturn("refreshToken");
+        long accountVersion = user.currentAccountVersion();
+
+        // When
+        authService.login(authRequestDTO);
+
+        // Then
+        assertEquals("rehashedPassword", user.getPassword());
+        assertEquals(accountVersion, user.currentAccountVersion());
+        verify(userRepository).save(user);
     }
 
     @Test
@@ -143,14 +179,14 @@ class AuthServiceTest {
 
         assertEquals("이메일 또는 비밀번호가 올바르지 않습니다.", exception.getMessage());
         verify(userRepository).findByEmail(authRequestDTO.getEmail());
-        verify(passwordEncoder, never()).matches(anyString(), anyString());
+        verify(passwordHashingService, never()).matches(anyString(), anyString());
     }
 
     @Test
     void login_WithInvalidPassword_ShouldThrowBadCredentialsException() {
         // Given
         when(userRepository.findByEmail(anyString())).thenReturn(Optional.of(user));
-        when(passwordEncoder.matches(anyString(), anyString())).thenReturn(false);
+        when(passwordHashingService.matches(anyString(), anyString())).thenReturn(false);
 
         // When & Then
         BadCredentialsException exception = assertThrows(
@@ -160,21 +196,83 @@ class AuthServiceTest {
 
         assertEquals("이메일 또는 비밀번호가 올바르지 않습니다.", exception.getMessage());
         verify(userRepository).findByEmail(authRequestDTO.getEmail());
-        verify(passwordEncoder).matches(authRequestDTO.getPassword(), user.getPassword());
+        verify(passwordHashingService).matches(authRequestDTO.getPassword(), user.getPassword());
+    }
+
+    @Test
+    void kakaoLogin_WithLinkedKakaoAccount_ShouldSkipEmailLookupAndHashing() {
+        // Given
+        KakaoUserInfoResponseDto kakaoUserInfo = mock(KakaoUserInfoResponseDto.class);
+        when(kakaoUserInfo.getId()).thenReturn(12345L);
+        when(socialIdentityRepository.findUserByProviderAndProviderUserId("KAKAO", "12345"))
+                .thenReturn(Optional.of(user));
+        when(jwtTokenProvider.createAccessToken(any(User.class), anyString())).thenReturn("accessToken");
+        when(jwtTokenProvider.createRefreshToken(any(User.class), anyString(), anyString())).thenReturn("refreshToken");
+
+        // When
+        AuthResponseDTO result = authService.kakaoLogin(kakaoUserInfo);
+
+        // Then
+        assertEquals("accessToken", result.getAccessToken());
+        verify(userRepository, never()).findByEmail(anyString());
+        verify(passwordHashingService, never()).encode(anyString());
+    }
+
+    @Test
+    void refreshToken_WhenRotatedTokenIsReused_ShouldRejectWithoutIssuingTokens() {
+        // Given
+        String token = "reused.refresh.token";
+        VerifiedToken verifiedToken = mock(VerifiedToken.class);
+        when(verifiedToken.getFamilyId()).thenReturn("familyId");
+        when(verifiedToken.getTokenId()).thenReturn("oldTokenId");
+        when(jwtTokenProvider.verifyRefreshToken(token)).thenReturn(Optional.of(verifiedToken));
+        when(refreshTokenStore.rotate(eq("familyId"), eq("oldTokenId"), anyString()))
+                .thenReturn(RefreshTokenStore.RotationResult.REUSE_DETECTED);
+
+        // When & Then
+        IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> authService.refreshToken(token)
+        );
+
+        assertEquals("유효하지 않은 리프레시 토큰입니다.", exception.getMessage());
+        verify(tokenBlacklistService).revokeFamily("familyId");
+        verify(jwtTokenProvider, never()).createAccessToken(any(User.class), anyString());
+        verify(jwtTokenProvider, never()).createRefreshToken(any(User.class), anyString(), anyString());
     }
 
     @Test
     void isTokenBlacklisted_WithValidToken_ShouldReturnFalse() {
         // Given
         String token = "valid.token.here";
-        when(tokenBlacklistService.isBlacklisted(token)).thenReturn(false);
+        VerifiedToken verifiedToken = mock(VerifiedToken.class);
+        when(verifiedToken.getTokenId()).thenReturn("tokenId");
+        when(verifiedToken.getUserId()).thenReturn(1L);
+        when(verifiedToken.getFamilyId()).thenReturn("familyId");
+        when(verifiedToken.getIssuedAt()).thenReturn(1000L);
+        when(jwtTokenProvider.verify(token)).thenReturn(verifiedToken);
+        when(tokenBlacklistService.isRevoked("tokenId", 1L, "familyId", 1000L)).thenReturn(false);
 
         // When
         boolean result = authService.isTokenBlacklisted(token);
 
         // Then
         assertFalse(result);
-        verify(tokenBlacklistService).isBlacklisted(token);
+        verify(tokenBlacklistService).isRevoked("tokenId", 1L, "familyId", 1000L);
+    }
+
+    @Test
+    void isTokenBlacklisted_WithExpiredToken_ShouldReturnTrue() {
+        // Given
+        String token = "expired.token.here";
+        when(jwtTokenProvider.verify(token)).thenThrow(new ExpiredJwtException(null, null, "expired"));
+
+        // When
+        boolean result = authService.isTokenBlacklisted(token);
+
+        // Then
+        assertTrue(result);
+        verify(tokenBlacklistService, never()).isRevoked(anyString(), any(), any(), anyLong());
     }
 
     @Test
@@ -187,6 +285,37 @@ class AuthServiceTest {
 
         // Then
         assertFalse(result);
-        verify(tokenBlacklistService, never()).isBlacklisted(anyString());
+        verify(tokenBlacklistService, never()).isRevoked(anyString(), any(), any(), anyLong());
+    }
+
+    @Test
+    void loadUserByUsername_OnCacheMiss_ShouldLoadFromRepository() {
+        // Given
+        when(principalCache.get(anyString(), any())).thenAnswer(invocation -> {
+            Function<String, CustomUserDetails> loader = invocation.getArgument(1);
+            return loader.apply(invocation.getArgument(0));
+        });
+        when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.of(user));
+
+        // When
+        UserDetails result = authService.loadUserByUsername("test@example.com");
+
+        // Then
+        assertEquals("test@example.com", result.getUsername());
+        verify(userRepository).findByEmail("test@example.com");
+    }
+
+    @Test
+    void loadUserByUsername_WithUnknownEmail_ShouldThrowUsernameNotFoundException() {
+        // Given
+        when(principalCache.get(anyString(), any())).thenAnswer(invocation -> {
+            Function<String, CustomUserDetails> loader = invocation.getArgument(1);
+            return loader.apply(invocation.getArgument(0));
+        });
+        when(userRepository.findByEmail(anyString())).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThrows(UsernameNotFoundException.class,
+                () -> authService.loadUserByUsername("unknown@example.com"));
     }
 } 
\ No newline at end of file
@@ -0,0 +1,184 @@
+package com.sayup.SayUp.service;
+
+import com.sayup.SayUp.dto.friend.FriendBatchRequestDTO;
+import com.sayup.SayUp.dto.friend.FriendBatchResultDTO;
+import com.sayup.SayUp.entity.friend.FriendRelationship;
+import com.sayup.SayUp.entity.user.User;
+import com.sayup.SayUp.event.FriendshipChangedEvent;
+import com.sayup.SayUp.repository.FriendshipRepository;
+import com.sayup.SayUp.repository.UserRepository;
+import com.sayup.SayUp.security.CustomUserDetails;
+import com.sayup.SayUp.service.friend.FriendIdCache;
+import com.sayup.SayUp.service.friend.FriendshipService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FriendshipServiceTest {
+
+    @Mock
+    private FriendshipRepository friendshipRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private FriendIdCache friendIdCache;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @InjectMocks
+    private FriendshipService friendshipService;
+
+    private User requester;
+    private User addressee;
+
+    @BeforeEach
+    void setUp() {
+        requester = User.builder().userId(1L).email("requester@example.com").build();
+        addressee = User.builder().userId(2L).email("addressee@example.com").build();
+        lenient().when(userRepository.getReferenceById(1L)).thenReturn(requester);
+        lenient().when(userRepository.getReferenceById(2L)).thenReturn(addressee);
+
+        // 트랜잭션 콜백을 바로 실행
+        lenient().doAnswer(invocation -> {
+            Consumer<TransactionStatus> action = invocation.getArgument(0);
+            action.accept(mock(TransactionStatus.class));
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+    }
+
+    @Test
+    void sendFriendRequest_WhenOtherUserAlreadyRequested_ShouldMergeIntoFriendship() {
+        // Given
+        FriendRelationship pending = pendingRequest(addressee, requester);
+        when(userRepository.findById(2L)).thenReturn(Optional.of(addressee));
+        when(friendshipRepository.findRelationship(1L, 2L)).thenReturn(Optional.of(pending));
+
+        // When
+        friendshipService.sendFriendRequest(new CustomUserDetails(requester), 2L);
+
+        // Then
+        assertEquals(FriendRelationship.FriendshipStatus.ACCEPTED, pending.getStatus());
+        assertNotNull(pending.getAcceptedAt());
+        verify(friendshipRepository, never()).save(any(FriendRelationship.class));
+        verify(eventPublisher).publishEvent(any(FriendshipChangedEvent.class));
+    }
+
+    @Test
+    void sendFriendRequest_WhenConcurrentInsertWins_ShouldRetryAgainstCommittedRow() {
+        // Given
+        FriendRelationship committed = pendingRequest(addressee, requester);
+        when(userRepository.findById(2L)).thenReturn(Optional.of(addressee));
+        when(friendshipRepository.findRelationship(1L, 2L))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(committed));
+        when(friendshipRepository.save(any(FriendRelationship.class)))
+                .thenThrow(new DataIntegrityViolationException("uk_friend_relationship_pair"));
+
+        // When
+        friendshipService.sendFriendRequest(new CustomUserDetails(requester), 2L);
+
+        // Then
+        verify(transactionTemplate, times(2)).executeWithoutResult(any());
+        assertEquals(FriendRelationship.FriendshipStatus.ACCEPTED, committed.getStatus());
+    }
+
+    @Test
+    void processBatch_ShouldReportPerItemResultsAndSaveNewRequestsTogether() {
+        // Given
+        ReflectionTestUtils.setField(friendshipService, "maxBatchSize", 100);
+        User other = User.builder().userId(3L).email("other@example.com").build();
+        FriendRelationship incoming = pendingRequest(other, requester);
+        incoming.setUserLowId(1L);
+        incoming.setUserHighId(3L);
+        when(userRepository.findAllById(any())).thenReturn(List.of(addressee, other));
+        when(friendshipRepository.findAllBetween(eq(1L), any())).thenReturn(List.of(incoming));
+
+        List<FriendBatchRequestDTO.Item> items = List.of(
+                new FriendBatchRequestDTO.Item(FriendBatchRequestDTO.Action.REQUEST, 2L),
+                new FriendBatchRequestDTO.Item(FriendBatchRequestDTO.Action.ACCEPT, 3L),
+                new FriendBatchRequestDTO.Item(FriendBatchRequestDTO.Action.REQUEST, 2L),
+                new FriendBatchRequestDTO.Item(FriendBatchRequestDTO.Action.REJECT, 99L));
+        doAnswer(invocation -> {
+            TransactionCallback<?> callback = invocation.getArgument(0);
+            return callback.doInTransaction(mock(TransactionStatus.class));
+        }).when(transactionTemplate).execute(any());
+
+        // When
+        List<FriendBatchResultDTO> results = friendshipService.processBatch(new CustomUserDetails(requester), items);
+
+        // Then
+        assertEquals(List.of(true, true, false, false),
+                results.stream().map(FriendBatchResultDTO::isSuccess).toList());
+        assertEquals(FriendRelationship.FriendshipStatus.ACCEPTED, incoming.getStatus());
+        verify(friendshipRepository).saveAll(argThat(created -> ((List<?>) created).size() == 1));
+        verify(friendshipRepository, never()).save(any(FriendRelationship.class));
+    }
+
+    @Test
+    void acceptFriendRequest_WhenAlreadyAccepted_ShouldReturnCurrentStateWithoutUpdate() {
+        // Given
+        FriendRelationship accepted = pendingRequest(requester, addressee);
+        accepted.setStatus(FriendRelationship.FriendshipStatus.ACCEPTED);
+        when(friendshipRepository.findById(10L)).thenReturn(Optional.of(accepted));
+
+        // When
+        FriendRelationship.FriendshipStatus status =
+                friendshipService.acceptFriendRequest(new CustomUserDetails(addressee), 10L);
+
+        // Then
+        assertEquals(FriendRelationship.FriendshipStatus.ACCEPTED, status);
+        verify(friendshipRepository, never()).acceptPending(any(), any(), any());
+        verify(eventPublisher, never()).publishEvent(any(FriendshipChangedEvent.class));
+    }
+
+    @Test
+    void acceptFriendRequest_WhenConcurrentRejectWins_ShouldThrow() {
+        // Given
+        FriendRelationship rejected = pendingRequest(requester, addressee);
+        rejected.setStatus(FriendRelationship.FriendshipStatus.REJECTED);
+        when(friendshipRepository.findById(10L))
+                .thenReturn(Optional.of(pendingRequest(requester, addressee)))
+                .thenReturn(Optional.of(rejected));
+        when(friendshipRepository.acceptPending(eq(10L), eq(2L), any())).thenReturn(0);
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class,
+                () -> friendshipService.acceptFriendRequest(new CustomUserDetails(addressee), 10L));
+        verify(eventPublisher, never()).publishEvent(any(FriendshipChangedEvent.class));
+    }
+
+    private static FriendRelationship pendingRequest(User from, User to) {
+        FriendRelationship relationship = new FriendRelationship();
+        relationship.setId(10L);
+        relationship.setRequester(from);
+        relationship.setAddressee(to);
+        relationship.setStatus(FriendRelationship.FriendshipStatus.PENDING);
+        return relationship;
+    }
+}
@@ -0,0 +1,51 @@
+package com.sayup.SayUp.service.auth;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RevocationBloomFilterTest {
+
+    @Test
+    void mightContain_AfterPut_ShouldNeverReturnFalse() {
+        // Given
+        RevocationBloomFilter filter = new RevocationBloomFilter(1000, 0.01);
+        String[] tokens = new String[1000];
+        for (int i = 0; i < tokens.length; i++) {
+            tokens[i] = UUID.randomUUID().toString();
+            filter.put(tokens[i]);
+        }
+
+        // When & Then
+        for (String token : tokens) {
+            assertTrue(filter.mightContain(token));
+        }
+    }
+
+    @Test
+    void mightContain_WithUnknownTokens_ShouldStayNearConfiguredFalsePositiveRate() {
+        // Given
+        RevocationBloomFilter filter = new RevocationBloomFilter(1000, 0.01);
+        for (int i = 0; i < 1000; i++) {
+            filter.put(UUID.randomUUID().toString());
+        }
+
+        // When
+        int falsePositives = 0;
+        for (int i = 0; i < 10000; i++) {
+            if (filter.mightContain(UUID.randomUUID().toString())) {
+                falsePositives++;
+            }
+        }
+
+        // Then
+        assertTrue(falsePositives < 300, "false positives: " + falsePositives);
+    }
+
+    @Test
+    void constructor_WithInvalidRate_ShouldThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> new RevocationBloomFilter(1000, 1.5));
+    }
+}
@@ -0,0 +1,122 @@
+package com.sayup.SayUp.service.chat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.sayup.SayUp.dto.chat.ChatAckDTO;
+import com.sayup.SayUp.dto.chat.ChatMessageDTO;
+import com.sayup.SayUp.repository.MessagesRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class ChatMessageSinkTest {
+
+    private MessagesRepository messagesRepository;
+    private MessageJournal messageJournal;
+    private RecentMessageBuffer recentMessageBuffer;
+    private RedisTemplate<String, String> redisTemplate;
+    private SimpMessagingTemplate messagingTemplate;
+    private ChatMessageSink chatMessageSink;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        messagesRepository = mock(MessagesRepository.class);
+        messageJournal = mock(MessageJournal.class);
+        recentMessageBuffer = mock(RecentMessageBuffer.class);
+        redisTemplate = mock(RedisTemplate.class);
+        messagingTemplate = mock(SimpMessagingTemplate.class);
+        // 저널에 바로 기록된 것으로 처리
+        when(messageJournal.append(any(), any(), any())).thenAnswer(invocation -> {
+            invocation.<Runnable>getArgument(1).run();
+            return true;
+        });
+
+        chatMessageSink = new ChatMessageSink(messagesRepository, messageJournal, recentMessageBuffer, redisTemplate,
+                mock(RedisMessageListenerContainer.class), messagingTemplate,
+                new ObjectMapper().registerModule(new JavaTimeModule()));
+        ReflectionTestUtils.setField(chatMessageSink, "threads", 2);
+        ReflectionTestUtils.setField(chatMessageSink, "queueCapacity", 10);
+        chatMessageSink.init();
+    }
+
+    @Test
+    void submit_ShouldContinueSequenceFromDatabaseAndAckSender() throws InterruptedException {
+        // Given - 순번 키가 없음
+        when(redisTemplate.execute(any(RedisScript.class), eq(List.of("chat:room:seq:7")))).thenReturn(-1L);
+        when(messagesRepository.findMaxSeq(7L)).thenReturn(41L);
+        when(redisTemplate.execute(any(RedisScript.class), eq(List.of("chat:room:seq:7")), eq("41"))).thenReturn(42L);
+
+        // When
+        boolean accepted = chatMessageSink.submit(7L, 1L, "c-1", "안녕");
+        chatMessageSink.shutdown();
+
+        // Then
+        assertTrue(accepted);
+        verify(messageJournal).append(argThat((ChatMessageDTO message) -> message.getSeq() == 42L && message.getRoomId() == 7L),
+                any(), any());
+        verify(messagingTemplate).convertAndSendToUser("1", "/queue/chat-acks", ChatAckDTO.success(7L, "c-1", 42L));
+        verify(redisTemplate).convertAndSend(eq("chat:messages"), anyString());
+    }
+
+    @Test
+    void submit_WhenSequenceKeyLost_ShouldContinueAfterUnflushedJournalMessages() throws InterruptedException {
+        // Given - Redis 키가 사라졌고 DB에는 10까지, 저널에는 12까지 저장 대기 중
+        when(redisTemplate.execute(any(RedisScript.class), eq(List.of("chat:room:seq:7")))).thenReturn(-1L);
+        when(messagesRepository.findMaxSeq(7L)).thenReturn(10L);
+        when(messageJournal.maxUnflushedSeq(7L)).thenReturn(12L);
+        when(redisTemplate.execute(any(RedisScript.class), eq(List.of("chat:room:seq:7")), eq("12"))).thenReturn(13L);
+
+        // When
+        chatMessageSink.submit(7L, 1L, "c-1", "안녕");
+        chatMessageSink.shutdown();
+
+        // Then
+        verify(messageJournal).append(argThat((ChatMessageDTO message) -> message.getSeq() == 13L), any(), any());
+    }
+
+    @Test
+    void submit_WhenRedisPublishFails_ShouldDeliverLocallyAndInvalidateRecentBuffer() throws InterruptedException {
+        // Given
+        when(redisTemplate.execute(any(RedisScript.class), anyList())).thenReturn(1L);
+        doThrow(new RuntimeException("redis down")).when(redisTemplate).convertAndSend(anyString(), anyString());
+
+        // When
+        chatMessageSink.submit(8L, 2L, "c-2", "hi");
+        chatMessageSink.shutdown();
+
+        // Then
+        verify(messagingTemplate).convertAndSend(eq("/topic/chat-rooms/8"), any(ChatMessageDTO.class));
+        verify(recentMessageBuffer).invalidate(8L);
+    }
+
+    @Test
+    void submit_WhenJournalFull_ShouldAckFailureWithoutDelivering() throws InterruptedException {
+        // Given
+        when(redisTemplate.execute(any(RedisScript.class), anyList())).thenReturn(5L);
+        when(messageJournal.append(any(), any(), any())).thenReturn(false);
+
+        // When
+        chatMessageSink.submit(9L, 3L, "c-3", "hi");
+        chatMessageSink.shutdown();
+
+        // Then
+        verify(messagingTemplate).convertAndSendToUser("3", "/queue/chat-acks",
+                ChatAckDTO.failure(9L, "c-3", "잠시 후 다시 시도해주세요."));
+        verify(redisTemplate, never()).convertAndSend(anyString(), anyString());
+    }
+}
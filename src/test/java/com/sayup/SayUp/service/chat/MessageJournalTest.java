@@ -0,0 +1,131 @@
+package com.sayup.SayUp.service.chat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.sayup.SayUp.dto.chat.ChatMessageDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.Mockito.*;
+
+class MessageJournalTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        transactionTemplate = mock(TransactionTemplate.class);
+        doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(mock(TransactionStatus.class));
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+    }
+
+    private MessageJournal journal(Path path, int queueCapacity) throws Exception {
+        MessageJournal journal = new MessageJournal(jdbcTemplate, transactionTemplate, objectMapper);
+        ReflectionTestUtils.setField(journal, "journalPath", path.toString());
+        ReflectionTestUtils.setField(journal, "queueCapacity", queueCapacity);
+        ReflectionTestUtils.setField(journal, "batchSize", 500);
+        ReflectionTestUtils.setField(journal, "maxDelay", 20L);
+        ReflectionTestUtils.setField(journal, "retryInterval", 1000L);
+        journal.init();
+        return journal;
+    }
+
+    private static ChatMessageDTO message(long seq) {
+        return new ChatMessageDTO(1L, seq, 2L, "msg-" + seq, LocalDateTime.of(2024, 1, 1, 12, 0));
+    }
+
+    @Test
+    void append_ShouldAckAfterJournalAndStoreBatchInOneTransaction() throws Exception {
+        // Given
+        Path path = tempDir.resolve("chat-journal.log");
+        MessageJournal journal = journal(path, 100);
+        CountDownLatch durable = new CountDownLatch(3);
+
+        // When
+        for (long seq = 1; seq <= 3; seq++) {
+            assertTrue(journal.append(message(seq), durable::countDown, () -> fail("unexpected failure")));
+        }
+        assertTrue(durable.await(5, TimeUnit.SECONDS));
+        journal.shutdown();
+
+        // Then
+        verify(transactionTemplate, atLeastOnce()).executeWithoutResult(any());
+        verify(jdbcTemplate, atLeastOnce()).batchUpdate(anyString(), argThat((Collection<ChatMessageDTO> batch) -> !batch.isEmpty()),
+                anyInt(), any(ParameterizedPreparedStatementSetter.class));
+        assertEquals(0, Files.size(path));
+        assertFalse(journal.hasUnflushed(1L));
+        assertEquals(0, journal.maxUnflushedSeq(1L));
+    }
+
+    @Test
+    void init_ShouldStoreMessagesLeftInJournal() throws Exception {
+        // Given - 전송 확인 후 저장 전에 종료된 상태 (마지막 줄은 기록 중 잘림)
+        Path path = tempDir.resolve("chat-journal.log");
+        Files.writeString(path, objectMapper.writeValueAsString(message(7)) + "\n{\"roomId\":1,\"se",
+                StandardCharsets.UTF_8);
+
+        // When
+        MessageJournal journal = journal(path, 100);
+        journal.shutdown();
+
+        // Then - 이미 저장되었을 수 있으므로 복구 INSERT 사용
+        verify(jdbcTemplate).batchUpdate(contains("ON DUPLICATE KEY UPDATE"),
+                argThat((Collection<ChatMessageDTO> batch) -> batch.size() == 1
+                        && List.copyOf(batch).get(0).getSeq() == 7L),
+                anyInt(), any(ParameterizedPreparedStatementSetter.class));
+        assertEquals(0, Files.size(path));
+    }
+
+    @Test
+    void append_WhenSequenceCollides_ShouldStoreRestWithRecoverInsertInsteadOfRetryingForever() throws Exception {
+        // Given - 일반 INSERT가 (room_id, seq) 충돌로 실패
+        Path path = tempDir.resolve("chat-journal.log");
+        doThrow(new DuplicateKeyException("Duplicate entry '1-1'"))
+                .when(jdbcTemplate).batchUpdate(argThat((String sql) -> !sql.contains("ON DUPLICATE KEY UPDATE")),
+                        any(Collection.class), anyInt(), any(ParameterizedPreparedStatementSetter.class));
+        MessageJournal journal = journal(path, 100);
+        CountDownLatch durable = new CountDownLatch(1);
+
+        // When
+        assertTrue(journal.append(message(1), durable::countDown, () -> fail("unexpected failure")));
+        assertTrue(durable.await(5, TimeUnit.SECONDS));
+        journal.shutdown();
+
+        // Then
+        verify(jdbcTemplate, atLeastOnce()).batchUpdate(contains("ON DUPLICATE KEY UPDATE"), any(Collection.class),
+                anyInt(), any(ParameterizedPreparedStatementSetter.class));
+        assertEquals(0, Files.size(path));
+        assertFalse(journal.hasUnflushed(1L));
+    }
+}
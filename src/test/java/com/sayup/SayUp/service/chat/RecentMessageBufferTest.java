@@ -0,0 +1,101 @@
+package com.sayup.SayUp.service.chat;
+
+import com.sayup.SayUp.dto.chat.ChatMessageDTO;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RecentMessageBufferTest {
+
+    private static ChatMessageDTO message(long seq) {
+        return new ChatMessageDTO(1L, seq, 2L, "msg-" + seq, LocalDateTime.of(2024, 1, 1, 12, 0));
+    }
+
+    private static List<Long> seqs(List<ChatMessageDTO> messages) {
+        return messages.stream().map(ChatMessageDTO::getSeq).toList();
+    }
+
+    @Test
+    void page_ShouldReturnLatestMessagesInSeqOrderWithoutDuplicates() {
+        // Given - DB에 1~2, Pub/Sub으로 4, 3(늦게 도착), 4(중복)
+        RecentMessageBuffer.Ring ring = new RecentMessageBuffer.Ring(5);
+        ring.add(message(4));
+        ring.load(Set.of(2L, 3L), List.of(message(2), message(1)), true);
+        ring.add(message(3));
+        ring.add(message(4));
+
+        // When
+        List<ChatMessageDTO> latest = ring.page(Long.MAX_VALUE, 3);
+        List<ChatMessageDTO> older = ring.page(2, 3);
+
+        // Then
+        assertEquals(List.of(4L, 3L, 2L), seqs(latest));
+        assertEquals(List.of(1L), seqs(older));
+        assertTrue(ring.hasParticipant(2L));
+        assertFalse(ring.hasParticipant(9L));
+    }
+
+    @Test
+    void page_WhenOlderMessagesWereDropped_ShouldFallBackToDatabase() {
+        // Given - 크기 3인 버퍼에 메시지 1~5
+        RecentMessageBuffer.Ring ring = new RecentMessageBuffer.Ring(3);
+        ring.load(Set.of(2L), List.of(), true);
+        for (long seq = 1; seq <= 5; seq++) {
+            ring.add(message(seq));
+        }
+
+        // When & Then
+        assertEquals(List.of(5L, 4L), seqs(ring.page(Long.MAX_VALUE, 2)));
+        assertEquals(List.of(5L, 4L, 3L), seqs(ring.page(Long.MAX_VALUE, 3)));
+        assertNull(ring.page(Long.MAX_VALUE, 4));
+        assertNull(ring.page(3, 2));
+    }
+
+    @Test
+    void page_BeforeLoad_ShouldReturnNull() {
+        // Given
+        RecentMessageBuffer.Ring ring = new RecentMessageBuffer.Ring(3);
+        ring.add(message(1));
+
+        // When & Then
+        assertNull(ring.page(Long.MAX_VALUE, 1));
+    }
+
+    @Test
+    void page_WhenLoadedWithUnflushedMessagesOrInvalidated_ShouldFallBackToDatabase() {
+        // Given - 저장 대기 중인 메시지가 있을 때 채운 버퍼
+        RecentMessageBuffer.Ring ring = new RecentMessageBuffer.Ring(5);
+        ring.load(Set.of(2L), List.of(message(1)), false);
+
+        // When & Then - 첫 메시지부터 보관 중인지 알 수 없음
+        assertNull(ring.page(Long.MAX_VALUE, 2));
+        assertEquals(List.of(1L), seqs(ring.latest(Long.MAX_VALUE, 2)));
+
+        // When - 구독 재연결 등으로 무효화
+        ring.invalidate();
+
+        // Then
+        assertFalse(ring.isLoaded());
+        assertNull(ring.page(Long.MAX_VALUE, 1));
+        assertTrue(ring.latest(Long.MAX_VALUE, 1).isEmpty());
+    }
+
+    @Test
+    void page_WhenSeqsAreNotContiguous_ShouldFallBackToDatabase() {
+        // Given - 다른 노드에서 저장 대기 중이던 3, 4를 받지 못한 채 다시 채워진 버퍼
+        RecentMessageBuffer.Ring ring = new RecentMessageBuffer.Ring(10);
+        ring.load(Set.of(2L), List.of(message(2), message(1)), true);
+        ring.add(message(5));
+        ring.add(message(6));
+
+        // When & Then
+        assertEquals(List.of(6L, 5L), seqs(ring.page(Long.MAX_VALUE, 2)));
+        assertNull(ring.page(Long.MAX_VALUE, 3));
+        assertNull(ring.page(5, 1));
+        assertEquals(List.of(2L, 1L), seqs(ring.page(3, 5)));
+    }
+}
@@ -0,0 +1,86 @@
+package com.sayup.SayUp.service.friend;
+
+import com.sayup.SayUp.dto.friend.FriendEventDTO;
+import com.sayup.SayUp.event.FriendshipChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.user.SimpUser;
+import org.springframework.messaging.simp.user.SimpUserRegistry;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FriendEventNotifierTest {
+
+    @Mock
+    private SimpMessagingTemplate messagingTemplate;
+
+    @Mock
+    private SimpUserRegistry simpUserRegistry;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    @InjectMocks
+    private FriendEventNotifier friendEventNotifier;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(friendEventNotifier, "maxBuffered", 3);
+        // Redis 발행 실패 시 로컬 전송 경로로 검증
+        doThrow(new RuntimeException("redis down")).when(redisTemplate).convertAndSend(anyString(), anyString());
+        when(simpUserRegistry.getUser("2")).thenReturn(mock(SimpUser.class));
+    }
+
+    @Test
+    void flush_ShouldSendBurstAsSingleDeduplicatedMessage() {
+        // Given
+        request(1L, 2L);
+        request(1L, 2L);
+        request(3L, 2L);
+
+        // When
+        friendEventNotifier.flush();
+        friendEventNotifier.flush();
+
+        // Then
+        verify(messagingTemplate, times(1)).convertAndSendToUser(eq("2"), eq("/queue/friends"), eq(List.of(
+                new FriendEventDTO(FriendEventDTO.Type.FRIEND_REQUEST_SENT, 1L),
+                new FriendEventDTO(FriendEventDTO.Type.FRIEND_REQUEST_SENT, 3L))));
+    }
+
+    @Test
+    void flush_WhenBufferOverflows_ShouldSendResyncOnly() {
+        // Given
+        for (long requesterId = 10; requesterId < 20; requesterId++) {
+            request(requesterId, 2L);
+        }
+
+        // When
+        friendEventNotifier.flush();
+
+        // Then
+        verify(messagingTemplate).convertAndSendToUser("2", "/queue/friends",
+                List.of(new FriendEventDTO(FriendEventDTO.Type.RESYNC, null)));
+    }
+
+    private void request(Long requesterId, Long addresseeId) {
+        friendEventNotifier.onFriendshipChanged(
+                new FriendshipChangedEvent(FriendshipChangedEvent.Type.REQUESTED, requesterId, addresseeId));
+    }
+}
@@ -0,0 +1,110 @@
+package com.sayup.SayUp.service.friend;
+
+import com.sayup.SayUp.event.FriendshipChangedEvent;
+import com.sayup.SayUp.repository.FriendshipRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+class FriendGraphTest {
+
+    private FriendshipRepository friendshipRepository;
+    private FriendGraph friendGraph;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        friendshipRepository = mock(FriendshipRepository.class);
+        friendGraph = new FriendGraph(friendshipRepository, mock(RedisTemplate.class),
+                mock(RedisMessageListenerContainer.class));
+
+        // 빈 DB로 초기 적재
+        when(friendshipRepository.findAcceptedEdges(anyLong(), any())).thenReturn(List.of());
+        friendGraph.rebuild();
+    }
+
+    @Test
+    void suggest_ShouldRankByMutualFriendCountAndExcludeExistingFriends() {
+        // Given: 1-2, 1-3, 2-4, 3-4, 3-5, 2-3
+        accept(1L, 2L);
+        accept(1L, 3L);
+        accept(2L, 4L);
+        accept(3L, 4L);
+        accept(3L, 5L);
+        accept(2L, 3L);
+
+        // When
+        List<FriendGraph.Suggestion> suggestions = friendGraph.suggest(1L, 10);
+
+        // Then
+        assertEquals(List.of(4L, 5L), suggestions.stream().map(FriendGraph.Suggestion::getUserId).toList());
+        assertEquals(2, suggestions.get(0).getMutualFriendCount());
+        assertEquals(1, suggestions.get(1).getMutualFriendCount());
+        assertEquals(2, friendGraph.mutualFriendCount(1L, 4L));
+    }
+
+    @Test
+    void onFriendshipChanged_WhenRemoved_ShouldDropEdgeFromBothUsers() {
+        // Given
+        accept(1L, 2L);
+        accept(2L, 3L);
+
+        // When
+        friendGraph.onFriendshipChanged(new FriendshipChangedEvent(FriendshipChangedEvent.Type.REMOVED, 2L, 1L));
+
+        // Then
+        assertTrue(friendGraph.suggest(1L, 10).isEmpty());
+        assertEquals(0, friendGraph.mutualFriendCount(1L, 3L));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void loadSnapshot_ShouldRestoreGraphAndApplyEdgesAcceptedAfterIt(@TempDir Path dir) {
+        // Given
+        ReflectionTestUtils.setField(friendGraph, "snapshotPath", dir.resolve("graph.bin").toString());
+        accept(1L, 2L);
+        accept(2L, 3L);
+        friendGraph.saveSnapshot();
+
+        FriendGraph restored = new FriendGraph(friendshipRepository, mock(RedisTemplate.class),
+                mock(RedisMessageListenerContainer.class));
+        ReflectionTestUtils.setField(restored, "snapshotPath", dir.resolve("graph.bin").toString());
+        FriendshipRepository.FriendEdge newEdge = edge(10L, 3L, 4L);
+        when(friendshipRepository.findAcceptedEdgesSince(any(), anyLong(), any())).thenReturn(List.of(newEdge));
+        clearInvocations(friendshipRepository);
+
+        // When
+        boolean loaded = restored.loadSnapshot();
+
+        // Then
+        assertTrue(loaded);
+        assertTrue(restored.isReady());
+        assertEquals(1, restored.mutualFriendCount(1L, 3L));
+        assertEquals(1, restored.mutualFriendCount(2L, 4L));
+        verify(friendshipRepository, never()).findAcceptedEdges(anyLong(), any());
+    }
+
+    private void accept(Long requesterId, Long addresseeId) {
+        friendGraph.onFriendshipChanged(
+                new FriendshipChangedEvent(FriendshipChangedEvent.Type.ACCEPTED, requesterId, addresseeId));
+    }
+
+    private static FriendshipRepository.FriendEdge edge(Long id, Long low, Long high) {
+        FriendshipRepository.FriendEdge edge = mock(FriendshipRepository.FriendEdge.class);
+        when(edge.getId()).thenReturn(id);
+        when(edge.getUserLowId()).thenReturn(low);
+        when(edge.getUserHighId()).thenReturn(high);
+        return edge;
+    }
+}
@@ -0,0 +1,66 @@
+package com.sayup.SayUp.service.friend;
+
+import com.sayup.SayUp.entity.friend.FriendRelationship;
+import com.sayup.SayUp.event.FriendshipChangedEvent;
+import com.sayup.SayUp.repository.FriendshipRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+class RelationshipStatusServiceTest {
+
+    private FriendshipRepository friendshipRepository;
+    private RelationshipStatusService relationshipStatusService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        friendshipRepository = mock(FriendshipRepository.class);
+        relationshipStatusService = new RelationshipStatusService(friendshipRepository, mock(RedisTemplate.class),
+                mock(RedisMessageListenerContainer.class), new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(relationshipStatusService, "maxSize", 100L);
+        ReflectionTestUtils.setField(relationshipStatusService, "ttl", 60000L);
+        relationshipStatusService.init();
+    }
+
+    @Test
+    void areFriends_ShouldQueryEachPairOnceRegardlessOfOrder() {
+        // Given
+        FriendRelationship relationship = new FriendRelationship();
+        relationship.setStatus(FriendRelationship.FriendshipStatus.ACCEPTED);
+        when(friendshipRepository.findRelationship(anyLong(), anyLong())).thenReturn(Optional.of(relationship));
+
+        // When
+        boolean first = relationshipStatusService.areFriends(1L, 2L);
+        boolean second = relationshipStatusService.areFriends(2L, 1L);
+
+        // Then
+        assertTrue(first);
+        assertTrue(second);
+        verify(friendshipRepository, times(1)).findRelationship(anyLong(), anyLong());
+    }
+
+    @Test
+    void onFriendshipChanged_ShouldUpdateStatusWithoutDatabaseRead() {
+        // When
+        relationshipStatusService.onFriendshipChanged(
+                new FriendshipChangedEvent(FriendshipChangedEvent.Type.ACCEPTED, 3L, 4L));
+        boolean accepted = relationshipStatusService.areFriends(4L, 3L);
+        relationshipStatusService.onFriendshipChanged(
+                new FriendshipChangedEvent(FriendshipChangedEvent.Type.REMOVED, 4L, 3L));
+
+        // Then
+        assertTrue(accepted);
+        assertEquals(RelationshipStatusService.Status.NONE, relationshipStatusService.status(3L, 4L));
+        verifyNoInteractions(friendshipRepository);
+    }
+}
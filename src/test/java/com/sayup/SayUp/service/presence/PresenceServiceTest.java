@@ -0,0 +1,111 @@
+package com.sayup.SayUp.service.presence;
+
+import com.sayup.SayUp.security.StompPrincipal;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.Message;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionConnectedEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PresenceServiceTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    @InjectMocks
+    private PresenceService presenceService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(presenceService, "timeout", 90000L);
+        ReflectionTestUtils.setField(presenceService, "retention", 86400000L);
+    }
+
+    @Test
+    void flush_ShouldCoalesceHeartbeatsIntoSinglePublish() {
+        // Given
+        for (int i = 0; i < 3; i++) {
+            presenceService.heartbeat(1L);
+            presenceService.heartbeat(2L);
+        }
+
+        // When
+        presenceService.flush();
+        presenceService.flush();
+
+        // Then
+        verify(redisTemplate, times(1)).convertAndSend(eq("presence:events"), startsWith("S:"));
+        verify(redisTemplate, times(1)).convertAndSend(anyString(), anyString());
+        assertTrue(presenceService.isOnline(1L));
+    }
+
+    @Test
+    void onSessionDisconnected_ShouldStayOnlineUntilLastSessionCloses() {
+        // Given
+        connect(1L);
+        connect(1L);
+
+        // When
+        disconnect(1L);
+
+        // Then
+        assertTrue(presenceService.isOnline(1L));
+
+        disconnect(1L);
+        assertFalse(presenceService.isOnline(1L));
+        assertNotNull(presenceService.getLastSeen(1L));
+    }
+
+    @Test
+    void onMessage_ShouldApplyUpdatesFromOtherNodes() {
+        // Given
+        long now = System.currentTimeMillis();
+
+        // When
+        receive("S:" + now + ":5,6");
+        receive("O:" + now + ":6");
+
+        // Then
+        assertTrue(presenceService.isOnline(5L));
+        assertFalse(presenceService.isOnline(6L));
+        assertEquals(now, presenceService.getLastSeen(6L));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void connect(Long userId) {
+        presenceService.onSessionConnected(new SessionConnectedEvent(this, mock(Message.class),
+                new StompPrincipal(userId, "user" + userId + "@test.com")));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void disconnect(Long userId) {
+        presenceService.onSessionDisconnected(new SessionDisconnectEvent(this, mock(Message.class), "session",
+                CloseStatus.NORMAL, new StompPrincipal(userId, "user" + userId + "@test.com")));
+    }
+
+    private void receive(String body) {
+        presenceService.onMessage(new DefaultMessage("presence:events".getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8)), null);
+    }
+}
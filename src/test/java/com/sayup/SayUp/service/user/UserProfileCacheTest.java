@@ -0,0 +1,80 @@
+package com.sayup.SayUp.service.user;
+
+import com.sayup.SayUp.dto.user.UserProfileDTO;
+import com.sayup.SayUp.event.UserAccountChangedEvent;
+import com.sayup.SayUp.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+class UserProfileCacheTest {
+
+    private UserRepository userRepository;
+    private RedisTemplate<String, String> redisTemplate;
+    private UserProfileCache userProfileCache;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        redisTemplate = mock(RedisTemplate.class);
+        userProfileCache = new UserProfileCache(userRepository, redisTemplate,
+                mock(RedisMessageListenerContainer.class), new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(userProfileCache, "maxSize", 100L);
+        ReflectionTestUtils.setField(userProfileCache, "ttl", 60000L);
+        userProfileCache.init();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void getAll_ShouldLoadOnlyMissesInSingleQuery() {
+        // Given
+        when(userRepository.findProfilesByIds(any())).thenAnswer(invocation -> ((List<Long>) invocation.getArgument(0))
+                .stream()
+                .map(userId -> new UserProfileDTO(userId, "user" + userId, true))
+                .toList());
+        userProfileCache.getAll(List.of(1L, 2L));
+
+        // When
+        Map<Long, UserProfileDTO> profiles = userProfileCache.getAll(List.of(1L, 2L, 3L));
+
+        // Then
+        assertEquals(Set.of(1L, 2L, 3L), profiles.keySet());
+        verify(userRepository, times(2)).findProfilesByIds(any());
+        verify(userRepository).findProfilesByIds(argThat(ids -> Set.copyOf(ids).equals(Set.of(3L))));
+    }
+
+    @Test
+    void onUserAccountChanged_ShouldUpdateCachedProfileWithoutQuery() {
+        // When
+        userProfileCache.onUserAccountChanged(new UserAccountChangedEvent(5L, "a@example.com", "a@example.com", "새이름", "이전이름",
+                true, true, false, 0L));
+
+        // Then
+        assertEquals("새이름", userProfileCache.getAll(List.of(5L)).get(5L).getUsername());
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void onUserAccountChanged_WhenNameAndActiveUnchanged_ShouldNotPublish() {
+        // When - 이 노드에 캐시되지 않은 사용자의 TTS 벡터 저장
+        userProfileCache.onUserAccountChanged(new UserAccountChangedEvent(6L, "b@example.com", "b@example.com", "이름", "이름",
+                true, true, false, 0L));
+
+        // Then
+        verify(redisTemplate, never()).convertAndSend(anyString(), anyString());
+    }
+}
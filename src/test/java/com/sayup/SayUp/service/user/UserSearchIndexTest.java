@@ -0,0 +1,76 @@
+package com.sayup.SayUp.service.user;
+
+import com.sayup.SayUp.event.UserAccountChangedEvent;
+import com.sayup.SayUp.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class UserSearchIndexTest {
+
+    private UserSearchIndex userSearchIndex;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        userSearchIndex = new UserSearchIndex(mock(UserRepository.class), mock(RedisTemplate.class),
+                mock(RedisMessageListenerContainer.class));
+        userSearchIndex.put(1L, "김철수", "chulsoo.kim@example.com");
+        userSearchIndex.put(2L, "김철민", "cm@example.com");
+        userSearchIndex.put(3L, "김영희", "younghee@example.com");
+        userSearchIndex.put(4L, "John Doe", "john.doe@example.com");
+    }
+
+    @Test
+    void decompose_ShouldSplitSyllablesInTypingOrder() {
+        assertEquals("ㄱㅣㅁㅊㅓㄹㅅㅜ", Hangul.decompose("김철수"));
+        assertEquals("ㄱㅗㅏㄹㄱ", Hangul.decompose("괅"));
+        assertEquals("ㄱㅊㅅ", Hangul.choseong("김철수"));
+    }
+
+    @Test
+    void search_ShouldMatchChoseongAndPartiallyTypedSyllables() {
+        assertEquals(List.of(2L, 1L), ids(userSearchIndex.search("ㄱㅊ", Set.of(), null, 10)));
+        assertEquals(List.of(2L, 1L), ids(userSearchIndex.search("김처", Set.of(), null, 10)));
+        assertEquals(List.of(1L), ids(userSearchIndex.search("김철ㅅ", Set.of(), null, 10)));
+    }
+
+    @Test
+    void search_ShouldMatchWordsAndEmailLocalPart() {
+        assertEquals(List.of(4L), ids(userSearchIndex.search("doe", Set.of(), null, 10)));
+        assertEquals(List.of(1L), ids(userSearchIndex.search("chul", Set.of(), null, 10)));
+    }
+
+    @Test
+    void search_ShouldRankFriendsFirstAndExcludeSelf() {
+        // When
+        List<UserSearchIndex.Match> matches = userSearchIndex.search("김", Set.of(3L), 2L, 2);
+
+        // Then
+        assertEquals(List.of(3L, 1L), ids(matches));
+        assertTrue(matches.get(0).isFriend());
+        assertFalse(matches.get(1).isFriend());
+    }
+
+    @Test
+    void onUserAccountChanged_WhenDeactivated_ShouldRemoveFromIndex() {
+        // When
+        userSearchIndex.onUserAccountChanged(
+                new UserAccountChangedEvent(1L, "chulsoo.kim@example.com", "chulsoo.kim@example.com", "김철수", "김철수", false, true, true, 1L));
+
+        // Then
+        assertEquals(List.of(2L), ids(userSearchIndex.search("김철", Set.of(), null, 10)));
+        assertNull(userSearchIndex.findByUsername("김철수"));
+    }
+
+    private static List<Long> ids(List<UserSearchIndex.Match> matches) {
+        return matches.stream().map(UserSearchIndex.Match::getUserId).toList();
+    }
+}